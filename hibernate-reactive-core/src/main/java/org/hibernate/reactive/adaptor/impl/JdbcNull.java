@@ -9,13 +9,15 @@
 
 import java.sql.Types;
 
-public class JdbcNull {
-    private final int jdbcTypeCode;
-    JdbcNull(int jdbcTypeCode) {
-        this.jdbcTypeCode = jdbcTypeCode;
+/**
+ * Maps the JDBC type of a null parameter to the typed null value
+ * expected by the Vert.x SQL client.
+ */
+public final class JdbcNull {
+    private JdbcNull() {
     }
 
-    public NullValue toNullValue() {
+    public static NullValue toNullValue(int jdbcTypeCode) {
         switch ( jdbcTypeCode ) {
             case Types.BOOLEAN:
             case Types.BIT: //we misuse BIT in H5
@@ -60,8 +62,4 @@ public NullValue toNullValue() {
             default: return null;
         }
     }
-
-    public int getJdbcTypeCode() {
-        return jdbcTypeCode;
-    }
 }
@@ -48,7 +48,17 @@ public interface Binder {
 	}
 
 	public static Object[] bind(Binder binder) {
-		PreparedStatementAdaptor statement = new PreparedStatementAdaptor();
+		return bind( 0, binder );
+	}
+
+	/**
+	 * Collect the parameter bindings of a statement with the given
+	 * number of parameters into an array of exactly that size. The
+	 * number of parameters is only a hint: the array is resized if
+	 * the statement has more or fewer parameters.
+	 */
+	public static Object[] bind(int parameterCount, Binder binder) {
+		PreparedStatementAdaptor statement = new PreparedStatementAdaptor( parameterCount );
 		try {
 			binder.bind(statement);
 		}
@@ -60,11 +70,19 @@ public static Object[] bind(Binder binder) {
 
 	static final Object[] NO_PARAMS = new Object[0];
 
-	Object[] params = NO_PARAMS;
+	Object[] params;
 	int size = 0;
 
+	public PreparedStatementAdaptor() {
+		this( 0 );
+	}
+
+	public PreparedStatementAdaptor(int parameterCount) {
+		params = parameterCount == 0 ? NO_PARAMS : new Object[parameterCount];
+	}
+
 	void put(int parameterIndex, Object parameter) {
-		if ( params.length <= parameterIndex ) {
+		if ( params.length < parameterIndex ) {
 			params = Arrays.copyOf(params, 4 + parameterIndex * 2);
 		}
 		params[parameterIndex-1] = parameter;
@@ -78,7 +96,8 @@ void clear() {
 	}
 
 	public Object[] getParametersAsArray() {
-		return Arrays.copyOf(params, size);
+		// no need to copy when the array has the right size
+		return size == params.length ? params : Arrays.copyOf( params, size );
 	}
 
 	@Override
@@ -93,7 +112,7 @@ public int executeUpdate() {
 
 	@Override
 	public void setNull(int parameterIndex, int sqlType) {
-		put( parameterIndex, new JdbcNull(sqlType) );
+		put( parameterIndex, JdbcNull.toNullValue( sqlType ) );
 	}
 
 	@Override
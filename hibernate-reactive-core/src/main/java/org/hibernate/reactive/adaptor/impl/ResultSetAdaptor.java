@@ -37,7 +37,13 @@
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static java.util.Collections.emptyList;
 
 /**
  * An adaptor that allows Hibenate core code which expects a JDBC
@@ -49,12 +55,55 @@ public class ResultSetAdaptor implements ResultSet {
 	private final RowSet<Row> rows;
 	private Row row;
 	private boolean wasNull;
+	private ColumnLabels columnLabels;
 
 	public ResultSetAdaptor(RowSet<Row> rows) {
 		this.iterator = rows.iterator();
 		this.rows = rows;
 	}
 
+	/**
+	 * Use the given {@link ColumnLabels}, obtained from a previous
+	 * result of the same query, to look up the columns of the given
+	 * result set by label, if its columns are described by the very
+	 * same list of names, as they are when the Vert.x client reuses
+	 * a cached prepared statement. Comparing the names one by one
+	 * would cost about as much as building new labels.
+	 *
+	 * @return the {@link ColumnLabels} of the given result set, or
+	 * {@code null} if it's not a {@code ResultSetAdaptor}
+	 */
+	public static ColumnLabels reuseColumnLabels(ResultSet resultSet, ColumnLabels labels) {
+		if ( resultSet instanceof ResultSetAdaptor ) {
+			final ResultSetAdaptor adaptor = (ResultSetAdaptor) resultSet;
+			if ( labels != null && adaptor.columnLabels == null && labels.matches( adaptor.columnNames() ) ) {
+				adaptor.columnLabels = labels;
+			}
+			return adaptor.columnLabels();
+		}
+		return null;
+	}
+
+	private List<String> columnNames() {
+		final List<String> names = rows.columnsNames();
+		return names == null ? emptyList() : names;
+	}
+
+	private ColumnLabels columnLabels() {
+		if ( columnLabels == null ) {
+			columnLabels = new ColumnLabels( columnNames() );
+		}
+		return columnLabels;
+	}
+
+	private int columnIndex(String columnLabel) {
+		final int index = columnLabels().indexOf( columnLabel );
+		if ( index < 0 ) {
+			throw new NoSuchElementException( "Column " + columnLabel + " does not exist" );
+		}
+		return index;
+	}
+
 	@Override
 	public boolean next() {
 		if ( iterator.hasNext() ) {
@@ -180,14 +229,14 @@ public InputStream getBinaryStream(int columnIndex) {
 
 	@Override
 	public String getString(String columnLabel) {
-		String string = row.getString(columnLabel);
+		String string = row.getString( columnIndex( columnLabel ) );
 		return (wasNull=string==null) ? null : string;
 	}
 
 	@Override
 	public boolean getBoolean(String columnLabel) {
 		try {
-			Boolean bool = row.getBoolean( columnLabel );
+			Boolean bool = row.getBoolean( columnIndex( columnLabel ) );
 			wasNull = bool == null;
 			return !wasNull && bool;
 		}
@@ -207,42 +256,42 @@ public boolean getBoolean(String columnLabel) {
 
 	@Override
 	public byte getByte(String columnLabel) {
-		Integer integer = row.getInteger( columnLabel );
+		Integer integer = row.getInteger( columnIndex( columnLabel ) );
 		wasNull = integer == null;
 		return wasNull ? 0 : integer.byteValue();
 	}
 
 	@Override
 	public short getShort(String columnLabel) {
-		Short aShort = row.getShort( columnLabel );
+		Short aShort = row.getShort( columnIndex( columnLabel ) );
 		wasNull = aShort == null;
 		return wasNull ? 0 : aShort;
 	}
 
 	@Override
 	public int getInt(String columnLabel) {
-		Integer integer = row.getInteger( columnLabel );
+		Integer integer = row.getInteger( columnIndex( columnLabel ) );
 		wasNull = integer == null;
 		return wasNull ? 0 : integer;
 	}
 
 	@Override
 	public long getLong(String columnLabel) {
-		Long aLong = row.getLong(columnLabel);
+		Long aLong = row.getLong( columnIndex( columnLabel ) );
 		wasNull = aLong == null;
 		return wasNull ? 0 : aLong;
 	}
 
 	@Override
 	public float getFloat(String columnLabel) {
-		Float real = row.getFloat( columnLabel );
+		Float real = row.getFloat( columnIndex( columnLabel ) );
 		wasNull = real == null;
 		return wasNull ? 0 : real;
 	}
 
 	@Override
 	public double getDouble(String columnLabel) {
-		Double real = row.getDouble( columnLabel );
+		Double real = row.getDouble( columnIndex( columnLabel ) );
 		wasNull = real == null;
 		return wasNull ? 0 : real;
 	}
@@ -254,38 +303,38 @@ public BigDecimal getBigDecimal(String columnLabel, int scale) {
 
 	@Override
 	public byte[] getBytes(String columnLabel) {
-		Buffer buffer = row.getBuffer( columnLabel );
+		Buffer buffer = row.getBuffer( columnIndex( columnLabel ) );
 		wasNull = buffer == null;
 		return wasNull ? null : buffer.getBytes();
 	}
 
 	@Override
 	public Date getDate(String columnLabel) {
-		LocalDate localDate = row.getLocalDate(columnLabel);
+		LocalDate localDate = row.getLocalDate( columnIndex( columnLabel ) );
 		return (wasNull=localDate==null) ? null : Date.valueOf(localDate);
 	}
 
 	@Override
 	public Time getTime(String columnLabel) {
-		LocalTime localTime = row.getLocalTime(columnLabel);
+		LocalTime localTime = row.getLocalTime( columnIndex( columnLabel ) );
 		return (wasNull=localTime==null) ? null : Time.valueOf(localTime);
 	}
 
 	@Override
 	public Time getTime(String columnLabel, Calendar cal) {
-		LocalTime localTime = row.getLocalTime( columnLabel );
+		LocalTime localTime = row.getLocalTime( columnIndex( columnLabel ) );
 		return ( wasNull = localTime == null ) ? null : Time.valueOf( localTime );
 	}
 
 	@Override
 	public Timestamp getTimestamp(String columnLabel) {
-		Object rawValue = row.getValue(columnLabel);
+		Object rawValue = row.getValue( columnIndex( columnLabel ) );
 		return (wasNull=rawValue==null) ? null : Timestamp.valueOf( toLocalDateTime(rawValue) );
 	}
 
 	@Override
 	public Timestamp getTimestamp(String columnLabel, Calendar cal) {
-		Object rawValue = row.getValue(columnLabel);
+		Object rawValue = row.getValue( columnIndex( columnLabel ) );
 		return (wasNull=rawValue==null) ? null : Timestamp.from( toOffsetDateTime(rawValue, cal).toInstant() );
 	}
 
@@ -331,7 +380,7 @@ public <T> T getObject(int columnIndex, Class<T> type) {
 
 	@Override
 	public <T> T getObject(String columnLabel, Class<T> type) {
-		T object = row.get( type, row.getColumnIndex(columnLabel) );
+		T object = row.get( type, columnIndex( columnLabel ) );
 		return (wasNull=object==null) ? null : object;
 	}
 
@@ -489,14 +538,13 @@ public Object getObject(int columnIndex) {
 
 	@Override
 	public Object getObject(String columnLabel) {
-		Object object = row.getValue( columnLabel );
+		Object object = row.getValue( columnIndex( columnLabel ) );
 		return (wasNull=object==null) ? null : object;
 	}
 
 	@Override
 	public int findColumn(String columnLabel) {
-		return rows.columnsNames().indexOf(columnLabel)+1;
-//		return row.getColumnIndex( columnLabel );
+		return columnLabels().indexOf( columnLabel ) + 1;
 	}
 
 	@Override
@@ -507,7 +555,7 @@ public BigDecimal getBigDecimal(int columnIndex) {
 
 	@Override
 	public BigDecimal getBigDecimal(String columnLabel) {
-		BigDecimal decimal = row.getBigDecimal(columnLabel);
+		BigDecimal decimal = row.getBigDecimal( columnIndex( columnLabel ) );
 		return (wasNull=decimal==null) ? null : decimal;
 	}
 
@@ -714,7 +762,7 @@ public Ref getRef(String columnLabel) {
 
 	@Override
 	public Blob getBlob(String columnLabel) {
-		final Object value = row.getValue( columnLabel );
+		final Object value = row.getValue( columnIndex( columnLabel ) );
 		wasNull = value == null;
 		if ( wasNull ) {
 			return null;
@@ -1228,4 +1276,48 @@ public void updateNClob(String columnLabel, Reader reader) {
 		throw new UnsupportedOperationException();
 	}
 
+
+	/**
+	 * A table from column label to column index, built once for the
+	 * columns of a {@link RowSet} and shared by all its rows. Labels
+	 * are matched exactly, or, failing that, ignoring case, as JDBC
+	 * requires. Instances are immutable, and so a loader may keep
+	 * the labels of one result and reuse them for later results of
+	 * the same query.
+	 *
+	 * @see #reuseColumnLabels(ResultSet, ColumnLabels)
+	 */
+	public static final class ColumnLabels {
+		private final List<String> names;
+		private final Map<String, Integer> indexes;
+
+		public ColumnLabels(List<String> names) {
+			this.names = names;
+			this.indexes = new HashMap<>( names.size() * 4 );
+			// the first column with a given label wins, and an
+			// exact match wins over a match that ignores case
+			for ( int i = 0; i < names.size(); i++ ) {
+				indexes.putIfAbsent( names.get( i ), i );
+			}
+			for ( int i = 0; i < names.size(); i++ ) {
+				indexes.putIfAbsent( names.get( i ).toLowerCase( Locale.ROOT ), i );
+			}
+		}
+
+		/**
+		 * @return the zero-based index of the column with the
+		 * given label, or {@code -1} if there's no such column
+		 */
+		public int indexOf(String label) {
+			Integer index = indexes.get( label );
+			if ( index == null ) {
+				index = indexes.get( label.toLowerCase( Locale.ROOT ) );
+			}
+			return index == null ? -1 : index;
+		}
+
+		boolean matches(List<String> columnNames) {
+			return names == columnNames;
+		}
+	}
 }
@@ -0,0 +1,50 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.Service;
+
+/**
+ * Provides non-blocking access to the cache regions of the second-level
+ * cache and the query cache. The default implementation,
+ * {@link org.hibernate.reactive.cache.impl.BlockingCacheAccess}, adapts
+ * the regions of the configured {@link org.hibernate.cache.spi.RegionFactory},
+ * which are assumed to be in-memory and fast.
+ * <p>
+ * A cache which performs I/O, for example, a remote cache, should be
+ * integrated by contributing a custom {@link ReactiveCacheAccess} using
+ * a {@link org.hibernate.boot.registry.StandardServiceInitiator} or by
+ * calling {@link org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder#addService},
+ * so that Hibernate Reactive never blocks the event loop waiting for it.
+ *
+ * <pre>{@code
+ * new ReactiveServiceRegistryBuilder()
+ *     .applySettings( properties )
+ *     .addService( ReactiveCacheAccess.class, myCacheAccess )
+ *     .build();
+ * }</pre>
+ */
+public interface ReactiveCacheAccess extends Service {
+
+	/**
+	 * Obtain the access strategy for the cache region of the given entity.
+	 * Called only if {@link EntityPersister#canReadFromCache()} or
+	 * {@link EntityPersister#canWriteToCache()}.
+	 * <p>
+	 * The state of an entity read from the database is still cached by
+	 * Hibernate ORM, using {@link EntityPersister#getCacheAccessStrategy()}
+	 * directly.
+	 */
+	ReactiveEntityDataAccess getEntityDataAccess(EntityPersister persister);
+
+	/**
+	 * Obtain the query cache region with the given name, or the default
+	 * query cache region if the name is {@code null}.
+	 */
+	ReactiveQueryResultsCache getQueryResultsCache(SessionFactoryImplementor factory, String regionName);
+}
@@ -0,0 +1,60 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * A non-blocking version of {@link org.hibernate.cache.spi.access.EntityDataAccess}.
+ *
+ * @see org.hibernate.cache.spi.access.EntityDataAccess
+ */
+public interface ReactiveEntityDataAccess {
+
+	/**
+	 * @see org.hibernate.cache.spi.access.EntityDataAccess#generateCacheKey(Object, EntityPersister, SessionFactoryImplementor, String)
+	 */
+	Object generateCacheKey(Object id, EntityPersister persister, SessionFactoryImplementor factory, String tenantIdentifier);
+
+	/**
+	 * Obtain the cached state of an entity.
+	 *
+	 * @return the cached state, or {@code null}
+	 *
+	 * @see org.hibernate.cache.spi.access.CachedDomainDataAccess#get(SharedSessionContractImplementor, Object)
+	 */
+	CompletionStage<Object> get(SharedSessionContractImplementor session, Object key);
+
+	/**
+	 * Lock the cached state of an entity which is about to be read
+	 * from, or written to, the database.
+	 *
+	 * @return the lock, or {@code null}, which must be passed to
+	 *         {@link #unlockItem(SharedSessionContractImplementor, Object, SoftLock)}
+	 *
+	 * @see org.hibernate.cache.spi.access.CachedDomainDataAccess#lockItem(SharedSessionContractImplementor, Object, Object)
+	 */
+	CompletionStage<SoftLock> lockItem(SharedSessionContractImplementor session, Object key, Object version);
+
+	/**
+	 * Release a lock obtained by {@link #lockItem(SharedSessionContractImplementor, Object, Object)}.
+	 *
+	 * @see org.hibernate.cache.spi.access.CachedDomainDataAccess#unlockItem(SharedSessionContractImplementor, Object, SoftLock)
+	 */
+	CompletionStage<Void> unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock);
+
+	/**
+	 * Evict the cached state of an entity.
+	 *
+	 * @see org.hibernate.cache.spi.access.CachedDomainDataAccess#remove(SharedSessionContractImplementor, Object)
+	 */
+	CompletionStage<Void> remove(SharedSessionContractImplementor session, Object key);
+}
@@ -0,0 +1,52 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.Type;
+
+/**
+ * A non-blocking version of {@link org.hibernate.cache.spi.QueryResultsCache}.
+ *
+ * @see org.hibernate.cache.spi.QueryResultsCache
+ */
+public interface ReactiveQueryResultsCache {
+
+	/**
+	 * The name of the underlying cache region, used for statistics.
+	 */
+	String getRegionName();
+
+	/**
+	 * Cache the results of a query.
+	 *
+	 * @return {@code true} if the results were cached
+	 *
+	 * @see org.hibernate.cache.spi.QueryResultsCache#put(QueryKey, List, Type[], SharedSessionContractImplementor)
+	 */
+	CompletionStage<Boolean> put(QueryKey key, List<?> result, Type[] returnTypes, SharedSessionContractImplementor session);
+
+	/**
+	 * Obtain the cached results of a query, if they're still up to date
+	 * with respect to the given query spaces.
+	 * <p>
+	 * The results are assembled, so this operation might need to resolve
+	 * entities which aren't in the second-level cache. In this case, it
+	 * should fail with {@link org.hibernate.reactive.event.impl.UnexpectedAccessToTheDatabase},
+	 * and the query will be executed against the database.
+	 *
+	 * @return the cached results, or {@code null}
+	 *
+	 * @see org.hibernate.cache.spi.QueryResultsCache#get(QueryKey, Set, Type[], SharedSessionContractImplementor)
+	 */
+	CompletionStage<List<?>> get(QueryKey key, Set<Serializable> spaces, Type[] returnTypes, SharedSessionContractImplementor session);
+}
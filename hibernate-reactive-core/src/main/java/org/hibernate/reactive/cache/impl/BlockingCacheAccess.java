@@ -0,0 +1,141 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.reactive.cache.ReactiveEntityDataAccess;
+import org.hibernate.reactive.cache.ReactiveQueryResultsCache;
+import org.hibernate.type.Type;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * The default {@link ReactiveCacheAccess}, which adapts the synchronous
+ * regions built by the configured {@link org.hibernate.cache.spi.RegionFactory}.
+ * Every operation is performed immediately, and returns a completed stage.
+ * The adapter of each entity region is created once, and then reused.
+ */
+public class BlockingCacheAccess implements ReactiveCacheAccess {
+
+	public static final BlockingCacheAccess INSTANCE = new BlockingCacheAccess();
+
+	// keyed by the access strategy, which is shared by the entities of a hierarchy
+	private final ConcurrentMap<EntityDataAccess, ReactiveEntityDataAccess> entityDataAccesses = new ConcurrentHashMap<>();
+
+	@Override
+	public ReactiveEntityDataAccess getEntityDataAccess(EntityPersister persister) {
+		return entityDataAccesses.computeIfAbsent( persister.getCacheAccessStrategy(), BlockingEntityDataAccess::new );
+	}
+
+	@Override
+	public ReactiveQueryResultsCache getQueryResultsCache(SessionFactoryImplementor factory, String regionName) {
+		return new BlockingQueryResultsCache( factory.getCache().getQueryResultsCache( regionName ) );
+	}
+
+	private static class BlockingEntityDataAccess implements ReactiveEntityDataAccess {
+		private final EntityDataAccess delegate;
+
+		BlockingEntityDataAccess(EntityDataAccess delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Object generateCacheKey(Object id, EntityPersister persister, SessionFactoryImplementor factory, String tenantIdentifier) {
+			return delegate.generateCacheKey( id, persister, factory, tenantIdentifier );
+		}
+
+		@Override
+		public CompletionStage<Object> get(SharedSessionContractImplementor session, Object key) {
+			try {
+				return completedFuture( delegate.get( session, key ) );
+			}
+			catch (RuntimeException e) {
+				return failedFuture( e );
+			}
+		}
+
+		@Override
+		public CompletionStage<SoftLock> lockItem(SharedSessionContractImplementor session, Object key, Object version) {
+			try {
+				return completedFuture( delegate.lockItem( session, key, version ) );
+			}
+			catch (RuntimeException e) {
+				return failedFuture( e );
+			}
+		}
+
+		@Override
+		public CompletionStage<Void> unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+			try {
+				delegate.unlockItem( session, key, lock );
+				return voidFuture();
+			}
+			catch (RuntimeException e) {
+				return failedFuture( e );
+			}
+		}
+
+		@Override
+		public CompletionStage<Void> remove(SharedSessionContractImplementor session, Object key) {
+			try {
+				delegate.remove( session, key );
+				return voidFuture();
+			}
+			catch (RuntimeException e) {
+				return failedFuture( e );
+			}
+		}
+	}
+
+	private static class BlockingQueryResultsCache implements ReactiveQueryResultsCache {
+		private final QueryResultsCache delegate;
+
+		BlockingQueryResultsCache(QueryResultsCache delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public String getRegionName() {
+			return delegate.getRegion().getName();
+		}
+
+		@Override
+		public CompletionStage<Boolean> put(QueryKey key, List<?> result, Type[] returnTypes, SharedSessionContractImplementor session) {
+			try {
+				return completedFuture( delegate.put( key, result, returnTypes, session ) );
+			}
+			catch (RuntimeException e) {
+				return failedFuture( e );
+			}
+		}
+
+		@Override
+		public CompletionStage<List<?>> get(QueryKey key, Set<Serializable> spaces, Type[] returnTypes, SharedSessionContractImplementor session) {
+			try {
+				return completedFuture( delegate.get( key, spaces, returnTypes, session ) );
+			}
+			catch (RuntimeException e) {
+				return failedFuture( e );
+			}
+		}
+	}
+}
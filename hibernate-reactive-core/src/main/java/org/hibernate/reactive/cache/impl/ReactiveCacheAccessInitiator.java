@@ -0,0 +1,31 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Initiates the default {@link ReactiveCacheAccess}, which adapts the
+ * synchronous cache regions.
+ */
+public class ReactiveCacheAccessInitiator implements StandardServiceInitiator<ReactiveCacheAccess> {
+
+	public static final ReactiveCacheAccessInitiator INSTANCE = new ReactiveCacheAccessInitiator();
+
+	@Override
+	public ReactiveCacheAccess initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		return new BlockingCacheAccess();
+	}
+
+	@Override
+	public Class<ReactiveCacheAccess> getServiceInitiated() {
+		return ReactiveCacheAccess.class;
+	}
+}
@@ -0,0 +1,41 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.reactive.cache.ReactiveEntityDataAccess;
+import org.hibernate.reactive.cache.ReactiveQueryResultsCache;
+import org.hibernate.service.UnknownServiceException;
+
+/**
+ * Obtains the cache regions from the {@link ReactiveCacheAccess} service.
+ */
+public final class ReactiveCaches {
+
+	private ReactiveCaches() {
+	}
+
+	public static ReactiveEntityDataAccess entityDataAccess(EntityPersister persister) {
+		return cacheAccess( persister.getFactory() ).getEntityDataAccess( persister );
+	}
+
+	public static ReactiveQueryResultsCache queryResultsCache(SessionFactoryImplementor factory, String regionName) {
+		return cacheAccess( factory ).getQueryResultsCache( factory, regionName );
+	}
+
+	private static ReactiveCacheAccess cacheAccess(SessionFactoryImplementor factory) {
+		try {
+			return factory.getServiceRegistry().getService( ReactiveCacheAccess.class );
+		}
+		catch (UnknownServiceException e) {
+			// the service isn't registered when the list of
+			// initiators is built by an integrator, e.g. Quarkus
+			return BlockingCacheAccess.INSTANCE;
+		}
+	}
+}
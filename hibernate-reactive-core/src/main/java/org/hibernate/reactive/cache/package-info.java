@@ -0,0 +1,6 @@
+/**
+ * A non-blocking SPI for the second-level cache and the query cache.
+ *
+ * @see org.hibernate.reactive.cache.ReactiveCacheAccess
+ */
+package org.hibernate.reactive.cache;
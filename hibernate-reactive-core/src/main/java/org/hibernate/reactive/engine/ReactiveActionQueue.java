@@ -8,8 +8,10 @@
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -42,6 +44,7 @@
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.reactive.engine.impl.ReactiveCollectionRecreateAction;
@@ -55,6 +58,7 @@
 import org.hibernate.reactive.engine.impl.ReactiveOrphanRemovalAction;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.type.CollectionType;
@@ -689,8 +693,19 @@ private <E extends ReactiveExecutable> CompletionStage<Void> executeActions(
 		// todo : consider ways to improve the double iteration of Executables here:
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
+		// the end of the batch of identity inserts currently being executed
+		final int[] batchEnd = { 0 };
 		return CompletionStages.loop( 0, list.size(),
 				index -> {
+					if ( index < batchEnd[0] ) {
+						// already inserted as part of a batch
+						return voidFuture();
+					}
+					final List<ReactiveEntityIdentityInsertAction> batch = identityInsertBatch( list, index );
+					if ( batch.size() > 1 ) {
+						batchEnd[0] = index + batch.size();
+						return executeIdentityInserts( batch );
+					}
 					final E e = list.get( index );
 					return e.reactiveExecute()
 							.whenComplete( (v2, x1) -> {
@@ -716,6 +731,101 @@ private <E extends ReactiveExecutable> CompletionStage<Void> executeActions(
 		.thenCompose( v -> session.getReactiveConnection().executeBatch() );
 	}
 
+	/**
+	 * Collect the consecutive identity inserts of the same entity, starting
+	 * at the given index, which can be sent to the database in one batch.
+	 * An insert that refers to an entity inserted earlier in the batch must
+	 * wait for the id of that entity, and so it starts a new batch.
+	 */
+	private List<ReactiveEntityIdentityInsertAction> identityInsertBatch(
+			ExecutableList<? extends ReactiveExecutable> list, int start) {
+		final Object first = list.get( start );
+		if ( !( first instanceof ReactiveEntityIdentityInsertAction ) ) {
+			return Collections.emptyList();
+		}
+		final EntityPersister persister = ( (ReactiveEntityIdentityInsertAction) first ).getPersister();
+		if ( !( (ReactiveEntityPersister) persister ).isIdentityInsertBatchable() ) {
+			return Collections.emptyList();
+		}
+		final Set<Object> instances = Collections.newSetFromMap( new IdentityHashMap<>() );
+		final List<ReactiveEntityIdentityInsertAction> batch = new ArrayList<>();
+		for ( int index = start; index < list.size(); index++ ) {
+			final Object next = list.get( index );
+			if ( !( next instanceof ReactiveEntityIdentityInsertAction ) ) {
+				break;
+			}
+			final ReactiveEntityIdentityInsertAction insert = (ReactiveEntityIdentityInsertAction) next;
+			if ( insert.getPersister() != persister
+					|| references( insert.getState(), persister.getPropertyTypes(), instances ) ) {
+				break;
+			}
+			batch.add( insert );
+			instances.add( insert.getInstance() );
+		}
+		return batch;
+	}
+
+	private boolean references(Object[] state, Type[] types, Set<Object> instances) {
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object value = state[i];
+			if ( value != null ) {
+				if ( types[i].isEntityType() && instances.contains( value ) ) {
+					return true;
+				}
+				if ( types[i].isComponentType() ) {
+					final CompositeType componentType = (CompositeType) types[i];
+					if ( references( componentType.getPropertyValues( value, session.getSharedContract() ), componentType.getSubtypes(), instances ) ) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Execute identity inserts of the same entity, obtaining all the
+	 * generated ids from the database in a single round trip, and
+	 * assigning them to the entities in order.
+	 */
+	private CompletionStage<Void> executeIdentityInserts(List<ReactiveEntityIdentityInsertAction> batch) {
+		final ReactiveEntityPersister persister = (ReactiveEntityPersister) batch.get( 0 ).getPersister();
+		final List<ReactiveEntityIdentityInsertAction> inserts = new ArrayList<>( batch.size() );
+		return CompletionStages.loop( batch, insert -> insert.reactivePreInsert()
+						.thenAccept( v -> {
+							if ( insert.isVeto() ) {
+								insert.vetoed();
+							}
+							else {
+								inserts.add( insert );
+							}
+						} ) )
+				.thenCompose( v -> {
+					if ( inserts.isEmpty() ) {
+						return voidFuture();
+					}
+					final List<Object[]> states = new ArrayList<>( inserts.size() );
+					final List<Object> instances = new ArrayList<>( inserts.size() );
+					for ( ReactiveEntityIdentityInsertAction insert : inserts ) {
+						states.add( insert.getState() );
+						instances.add( insert.getInstance() );
+					}
+					return persister.insertReactive( states, instances, session.getSharedContract() )
+							.thenCompose( ids -> CompletionStages.loop( 0, inserts.size(),
+									i -> inserts.get( i ).reactiveInserted( ids.get( i ) ) ) );
+				} )
+				.whenComplete( (v, x) -> {
+					for ( ReactiveEntityIdentityInsertAction insert : batch ) {
+						if ( insert.getBeforeTransactionCompletionProcess() != null ) {
+							beforeTransactionProcesses().register( insert.getBeforeTransactionCompletionProcess() );
+						}
+						if ( insert.getAfterTransactionCompletionProcess() != null ) {
+							afterTransactionProcesses().register( insert.getAfterTransactionCompletionProcess() );
+						}
+					}
+				} );
+	}
+
 	/**
 	 * @param executable The action to execute
 	 */
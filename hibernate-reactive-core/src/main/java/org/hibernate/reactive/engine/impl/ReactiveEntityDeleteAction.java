@@ -8,13 +8,14 @@
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.action.internal.EntityDeleteAction;
-import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cfg.NotYetImplementedException;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.cache.ReactiveEntityDataAccess;
+import org.hibernate.reactive.cache.impl.ReactiveCaches;
 import org.hibernate.reactive.engine.ReactiveExecutable;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -63,20 +64,23 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 		}
 
 		final Object ck;
+		final CompletionStage<Void> lockStep;
 		if ( persister.canWriteToCache() ) {
-			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final ReactiveEntityDataAccess cache = ReactiveCaches.entityDataAccess( persister );
 			ck = cache.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() );
-			setLock( cache.lockItem( session, ck, version ) );
+			lockStep = cache.lockItem( session, ck, version ).thenAccept( this::setLock );
 		}
 		else {
 			ck = null;
+			lockStep = voidFuture();
 		}
 
-		CompletionStage<Void> deleteStep = !isCascadeDeleteEnabled() && !veto
-				? ((ReactiveEntityPersister) persister).deleteReactive( id, version, instance, session )
-				: voidFuture();
+		final Object deletedVersion = version;
+		CompletionStage<Void> deleteStep = lockStep.thenCompose( v -> !isCascadeDeleteEnabled() && !veto
+				? ( (ReactiveEntityPersister) persister ).deleteReactive( id, deletedVersion, instance, session )
+				: voidFuture() );
 
-		return deleteStep.thenAccept( v -> {
+		return deleteStep.thenCompose( v -> {
 			//postDelete:
 			// After actually deleting a row, record the fact that the instance no longer
 			// exists on the database (needed for identity-column key generation), and
@@ -91,10 +95,6 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 			persistenceContext.removeEntity( entry.getEntityKey() );
 			persistenceContext.removeProxy( entry.getEntityKey() );
 
-			if ( persister.canWriteToCache() ) {
-				persister.getCacheAccessStrategy().remove( session, ck );
-			}
-
 			persistenceContext.getNaturalIdHelper().removeSharedNaturalIdCrossReference(
 					persister,
 					id,
@@ -107,6 +107,10 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 			if ( statistics.isStatisticsEnabled() && !veto ) {
 				statistics.deleteEntity( getPersister().getEntityName() );
 			}
+
+			return persister.canWriteToCache()
+					? ReactiveCaches.entityDataAccess( persister ).remove( session, ck )
+					: voidFuture();
 		} );
 	}
 
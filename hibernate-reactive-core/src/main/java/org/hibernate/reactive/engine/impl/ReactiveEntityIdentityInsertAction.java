@@ -47,50 +47,73 @@ public void execute() throws HibernateException {
 
 	@Override
 	public CompletionStage<Void> reactiveExecute() throws HibernateException {
+		final CompletionStage<Void> stage = reactivePreInsert();
+		if ( !isVeto() ) {
+			final ReactiveEntityPersister reactivePersister = (ReactiveEntityPersister) getPersister();
+			return stage
+					.thenCompose( v -> reactivePersister.insertReactive( getState(), getInstance(), getSession() ) )
+					.thenCompose( this::reactiveInserted );
+		}
+		else {
+			vetoed();
+			return stage;
+		}
+	}
 
+	/**
+	 * The first part of {@link #reactiveExecute()}, before the row is
+	 * inserted: nullify references to transient entities, and call the
+	 * pre-insert event listeners, which might {@linkplain #isVeto() veto}
+	 * the insert.
+	 */
+	public CompletionStage<Void> reactivePreInsert() {
 		CompletionStage<Void> stage = reactiveNullifyTransientReferencesIfNotAlready();
 
-		final EntityPersister persister = getPersister();
-		final SharedSessionContractImplementor session = getSession();
-		final Object instance = getInstance();
+		// Don't need to lock the cache here, since if someone
+		// else inserted the same pk first, the insert would fail
 
 		setVeto( preInsert() );
+		return stage;
+	}
 
-		// Don't need to lock the cache here, since if someone
-		// else inserted the same pk first, the insert would fail
+	/**
+	 * The last part of {@link #reactiveExecute()}, after the row has
+	 * been inserted and the database has generated its identifier.
+	 */
+	public CompletionStage<Void> reactiveInserted(Serializable id) {
+		final ReactiveEntityPersister reactivePersister = (ReactiveEntityPersister) getPersister();
+		final SharedSessionContractImplementor session = getSession();
+		final Object instance = getInstance();
+		final Serializable generatedId = applyGeneratedId( id );
+		return processInsertGenerated( reactivePersister, generatedId, instance, session )
+				.thenAccept( v -> {
+					//need to do that here rather than in the save event listener to let
+					//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
+					reactivePersister.setIdentifier( instance, generatedId, session );
+					final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+					persistenceContext.registerInsertedKey( reactivePersister, generatedId );
+					EntityKey entityKey = session.generateEntityKey( generatedId, reactivePersister );
+					setEntityKey( entityKey );
+					persistenceContext.checkUniqueness( entityKey, instance );
+
+					postInsert();
+
+					final StatisticsImplementor statistics = session.getFactory().getStatistics();
+					if ( statistics.isStatisticsEnabled() && !isVeto() ) {
+						statistics.insertEntity( getPersister().getEntityName() );
+					}
+
+					markExecuted();
+				} );
+	}
 
-		if ( !isVeto() ) {
-			ReactiveEntityPersister reactivePersister = (ReactiveEntityPersister) persister;
-			return stage
-					.thenCompose( v -> reactivePersister.insertReactive( getState(), instance, session ) )
-					.thenApply( this::applyGeneratedId )
-					.thenCompose( generatedId -> processInsertGenerated( reactivePersister, generatedId, instance, session)
-							.thenApply( v -> generatedId ) )
-					.thenAccept( generatedId -> {
-						//need to do that here rather than in the save event listener to let
-						//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
-						persister.setIdentifier(instance, generatedId, session);
-						final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-						persistenceContext.registerInsertedKey(getPersister(), generatedId);
-						EntityKey entityKey = session.generateEntityKey(generatedId, persister);
-						setEntityKey( entityKey );
-						persistenceContext.checkUniqueness(entityKey, getInstance());
-
-						postInsert();
-
-						final StatisticsImplementor statistics = session.getFactory().getStatistics();
-						if ( statistics.isStatisticsEnabled() && !isVeto() ) {
-							statistics.insertEntity( getPersister().getEntityName() );
-						}
-
-						markExecuted();
-					});
-			}
-			else {
-				postInsert();
-				markExecuted();
-				return stage;
-			}
+	/**
+	 * The last part of {@link #reactiveExecute()}, when the insert
+	 * was vetoed by an event listener.
+	 */
+	public void vetoed() {
+		postInsert();
+		markExecuted();
 	}
 
 	private CompletionStage<Void> processInsertGenerated(
@@ -8,10 +8,11 @@
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.action.internal.EntityUpdateAction;
-import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.engine.spi.*;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.cache.ReactiveEntityDataAccess;
+import org.hibernate.reactive.cache.impl.ReactiveCaches;
 import org.hibernate.reactive.engine.ReactiveExecutable;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.stat.internal.StatsHelper;
@@ -79,22 +80,25 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 		}
 
 		final Object ck;
+		final CompletionStage<Void> lockStep;
 		if ( persister.canWriteToCache() ) {
-			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final ReactiveEntityDataAccess cache = ReactiveCaches.entityDataAccess( persister );
 			ck = cache.generateCacheKey(
 					id,
 					persister,
 					factory,
 					session.getTenantIdentifier()
 			);
-			setLock( cache.lockItem( session, ck, previousVersion ) );
+			lockStep = cache.lockItem( session, ck, previousVersion ).thenAccept( this::setLock );
 		}
 		else {
 			ck = null;
+			lockStep = voidFuture();
 		}
 
 		ReactiveEntityPersister reactivePersister = (ReactiveEntityPersister) persister;
-		CompletionStage<Void> update = veto
+		final Object updatedVersion = previousVersion;
+		CompletionStage<Void> update = lockStep.thenCompose( v -> veto
 				? voidFuture()
 				: reactivePersister.updateReactive(
 						id,
@@ -102,11 +106,11 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 						getDirtyFields(),
 						hasDirtyCollection(),
 						getPreviousState(),
-						previousVersion,
+						updatedVersion,
 						instance,
 						getRowId(),
 						session
-				);
+				) );
 
 		return update.thenApply( res -> {
 				final EntityEntry entry = session.getPersistenceContextInternal().getEntry( instance );
@@ -135,13 +139,12 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 				}
 				return completedFuture( entry );
 			} )
-			.thenAccept( entry -> {
+			.thenCompose( entry -> {
 				final StatisticsImplementor statistics = factory.getStatistics();
-				if ( persister.canWriteToCache() ) {
-					if ( persister.isCacheInvalidationRequired() || entry.getStatus() != Status.MANAGED ) {
-						persister.getCacheAccessStrategy().remove( session, ck );
-					}
-					else if ( session.getCacheMode().isPutEnabled() ) {
+				final boolean invalidate = persister.canWriteToCache()
+						&& ( persister.isCacheInvalidationRequired() || entry.getStatus() != Status.MANAGED );
+				if ( persister.canWriteToCache() && !invalidate ) {
+					if ( session.getCacheMode().isPutEnabled() ) {
 						//TODO: inefficient if that cache is just going to ignore the updated state!
 						final CacheEntry ce = persister.buildCacheEntry(
 								instance,
@@ -174,6 +177,10 @@ else if ( session.getCacheMode().isPutEnabled() ) {
 				if ( statistics.isStatisticsEnabled() && !veto ) {
 					statistics.updateEntity( getPersister().getEntityName() );
 				}
+
+				return invalidate
+						? ReactiveCaches.entityDataAccess( persister ).remove( session, ck )
+						: voidFuture();
 			} );
 		}
 
@@ -6,6 +6,7 @@
 package org.hibernate.reactive.engine.impl;
 
 import org.hibernate.HibernateException;
+import org.hibernate.ObjectNotFoundException;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.spi.EntityKey;
@@ -13,14 +14,22 @@
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
+import javax.persistence.EntityNotFoundException;
 
 import static org.hibernate.pretty.MessageHelper.infoString;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
@@ -32,6 +41,10 @@ public class ReactivePersistenceContextAdapter extends StatefulPersistenceContex
 
 	private HashMap<Serializable,Object[]> entitySnapshotsByKey;
 
+	// the proxies returned by deferLoad(), mapped to their key if they
+	// were created by deferLoad(), or to null if they already existed
+	private Map<Object, EntityKey> deferredProxies;
+
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
 	 *
@@ -99,6 +112,129 @@ public CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Serializable id, En
 		}
 	}
 
+	/**
+	 * Start deferring the loading of entities which are not in the
+	 * session, so that they can be fetched in a batch, or read from
+	 * the second-level cache without blocking, for example, while
+	 * assembling cached query results.
+	 *
+	 * @return {@code false} if loads were already being deferred
+	 *
+	 * @see #deferLoad(EntityKey, EntityPersister)
+	 * @see #endDeferredLoads()
+	 */
+	public boolean beginDeferredLoads() {
+		if ( deferredProxies != null ) {
+			return false;
+		}
+		deferredProxies = new IdentityHashMap<>();
+		return true;
+	}
+
+	public boolean isDeferringLoads() {
+		return deferredProxies != null;
+	}
+
+	/**
+	 * Return an uninitialized proxy for the given entity instead of
+	 * loading it. The proxy must later be initialized by the caller
+	 * of {@link #endDeferredLoads()}. A proxy which is already
+	 * associated with the session is reused.
+	 */
+	public Object deferLoad(EntityKey key, EntityPersister persister) {
+		final Object existing = getProxy( key );
+		if ( existing != null ) {
+			deferredProxies.putIfAbsent( existing, null );
+			return existing;
+		}
+		final Object proxy = persister.createProxy( key.getIdentifier(), getSession() );
+		addProxy( key, proxy );
+		deferredProxies.put( proxy, key );
+		return proxy;
+	}
+
+	/**
+	 * Stop deferring the loading of entities.
+	 *
+	 * @return the uninitialized proxies returned by {@link #deferLoad},
+	 *         to be passed to {@link #fetchDeferredLoads} or
+	 *         {@link #discardDeferredLoads}
+	 */
+	public Map<Object, EntityKey> endDeferredLoads() {
+		final Map<Object, EntityKey> proxies = deferredProxies;
+		deferredProxies = null;
+		return proxies == null ? Collections.emptyMap() : proxies;
+	}
+
+	/**
+	 * Fetch the entities whose loading was deferred, using as few
+	 * queries as possible. In the given results, replace the proxies
+	 * created by {@link #deferLoad} with the loaded entities, and
+	 * remove them from the session, just as if the entities had been
+	 * loaded directly. Proxies which already existed are kept.
+	 *
+	 * @param proxies the proxies returned by {@link #endDeferredLoads()}
+	 * @param results a list of entities or of rows of entities
+	 *
+	 * @return the results, or {@code null} if one of the entities no
+	 *         longer exists, and so the results are stale
+	 */
+	@SuppressWarnings("unchecked")
+	public CompletionStage<List<Object>> fetchDeferredLoads(Map<Object, EntityKey> proxies, List<?> results) {
+		if ( proxies.isEmpty() ) {
+			return CompletionStages.completedFuture( (List<Object>) results );
+		}
+		if ( results == null ) {
+			discardDeferredLoads( proxies );
+			return CompletionStages.nullFuture();
+		}
+		return ( (ReactiveSession) getSession() ).reactiveFetchAll( new ArrayList<>( proxies.keySet() ), false )
+				.handle( (fetched, err) -> {
+					discardDeferredLoads( proxies );
+					if ( err != null ) {
+						final Throwable cause = err instanceof CompletionException ? err.getCause() : err;
+						if ( cause instanceof ObjectNotFoundException || cause instanceof EntityNotFoundException ) {
+							// an entity was deleted after the results were cached
+							return null;
+						}
+						return CompletionStages.rethrow( err );
+					}
+					final List<Object> unproxied = new ArrayList<>( results.size() );
+					for ( Object result : results ) {
+						if ( result instanceof Object[] ) {
+							final Object[] row = (Object[]) result;
+							for ( int i = 0; i < row.length; i++ ) {
+								row[i] = unproxy( row[i], proxies );
+							}
+							unproxied.add( row );
+						}
+						else {
+							unproxied.add( unproxy( result, proxies ) );
+						}
+					}
+					return unproxied;
+				} );
+	}
+
+	/**
+	 * Remove the proxies created by {@link #deferLoad} from the session.
+	 *
+	 * @param proxies the proxies returned by {@link #endDeferredLoads()}
+	 */
+	public void discardDeferredLoads(Map<Object, EntityKey> proxies) {
+		proxies.forEach( (proxy, key) -> {
+			if ( key != null && getProxy( key ) == proxy ) {
+				removeProxy( key );
+			}
+		} );
+	}
+
+	private static Object unproxy(Object value, Map<Object, EntityKey> proxies) {
+		return value != null && proxies.get( value ) != null
+				? ( (HibernateProxy) value ).getHibernateLazyInitializer().getImplementation()
+				: value;
+	}
+
 	//All below methods copy/pasted from superclass because entitySnapshotsByKey is private:
 
 	@Override
@@ -117,6 +253,7 @@ public Object[] getCachedDatabaseSnapshot(EntityKey key) {
 	public void clear() {
 		super.clear();
 		entitySnapshotsByKey = null;
+		deferredProxies = null;
 	}
 
 	@Override
@@ -8,6 +8,7 @@
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -15,39 +16,56 @@
 import org.hibernate.NonUniqueObjectException;
 import org.hibernate.PersistentObjectException;
 import org.hibernate.TypeMismatchException;
+import org.hibernate.WrongClassException;
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
-import org.hibernate.cache.spi.access.EntityDataAccess;
-import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.engine.internal.TwoPhaseLoad;
+import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
 import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.loader.entity.CacheEntityLoaderHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.cache.ReactiveEntityDataAccess;
+import org.hibernate.reactive.cache.impl.ReactiveCaches;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.event.ReactiveLoadEventListener;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.stat.internal.StatsHelper;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.tuple.IdentifierProperty;
 import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.type.EmbeddedComponentType;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
+import org.hibernate.type.TypeHelper;
 
 import static org.hibernate.pretty.MessageHelper.infoString;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
 import static org.hibernate.reactive.session.impl.SessionUtil.throwEntityNotFound;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnNullorRethrow;
+import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -97,6 +115,12 @@ public void onLoad(
 			throw new UnexpectedAccessToTheDatabase();
 		}
 
+		final Object deferred = deferLoadIfNecessary( event, persister, loadType );
+		if ( deferred != null ) {
+			event.setResult( deferred );
+			return;
+		}
+
 		try {
 			// Since this method is not reactive, we're not expecting to hit the
 			// database here (if we do, it's a bug) and so we can assume the
@@ -121,6 +145,46 @@ public void onLoad(
 		}
 	}
 
+	/**
+	 * If the persistence context is deferring loads, and the entity
+	 * isn't in the session, return an uninitialized proxy instead of
+	 * loading it.
+	 *
+	 * @return the proxy, or {@code null} if the entity should be loaded
+	 *
+	 * @see ReactivePersistenceContextAdapter#beginDeferredLoads()
+	 */
+	private Object deferLoadIfNecessary(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final LoadEventListener.LoadType loadType) {
+		final EventSource session = event.getSession();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		if ( !( persistenceContext instanceof ReactivePersistenceContextAdapter )
+				|| !( (ReactivePersistenceContextAdapter) persistenceContext ).isDeferringLoads()
+				|| loadType.isNakedEntityReturned()
+				|| event.getLockMode() != LockMode.NONE
+				|| !persister.hasProxy() ) {
+			return null;
+		}
+
+		final EntityKey keyToLoad = session.generateEntityKey( event.getEntityId(), persister );
+		if ( persistenceContext.getEntity( keyToLoad ) != null ) {
+			// the entity is already available, there's no need
+			// to go to the database
+			return null;
+		}
+		// an entity which is in the second-level cache is deferred
+		// too, since reading the cache here would block, and is then
+		// read from the cache, without blocking, when the deferred
+		// loads are fetched
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Deferring load of: {0}", infoString( persister, event.getEntityId(), session.getFactory() ) );
+		}
+		return ( (ReactivePersistenceContextAdapter) persistenceContext ).deferLoad( keyToLoad, persister );
+	}
+
 	/**
 	 * Handle the given load event.
 	 *
@@ -528,40 +592,33 @@ private CompletionStage<Object> lockAndLoad(
 			LoadEventListener.LoadType options,
 			SessionImplementor source) {
 
-		final boolean canWriteToCache = persister.canWriteToCache();
-		final SoftLock lock;
-		final Object cacheKey;
-		if ( canWriteToCache ) {
-			EntityDataAccess cache = persister.getCacheAccessStrategy();
-			cacheKey = cache.generateCacheKey(
-					event.getEntityId(),
-					persister,
-					source.getFactory(),
-					source.getTenantIdentifier()
-			);
-			lock = cache.lockItem( source, cacheKey, null );
-		}
-		else {
-			cacheKey = null;
-			lock = null;
-		}
-
-		try {
+		if ( !persister.canWriteToCache() ) {
 			return load( event, persister, keyToLoad, options )
-					.whenComplete( (v, x) -> {
-						if ( canWriteToCache ) {
-							persister.getCacheAccessStrategy().unlockItem( source, cacheKey, lock );
-						}
-					} )
 					.thenApply( entity -> source.getPersistenceContextInternal().proxyFor( persister, keyToLoad, entity ) );
 		}
-		catch (HibernateException he) {
-			//in case load() throws an exception
-			if ( canWriteToCache ) {
-				persister.getCacheAccessStrategy().unlockItem( source, cacheKey, lock );
-			}
-			throw he;
-		}
+
+		final ReactiveEntityDataAccess cache = ReactiveCaches.entityDataAccess( persister );
+		final Object cacheKey = cache.generateCacheKey(
+				event.getEntityId(),
+				persister,
+				source.getFactory(),
+				source.getTenantIdentifier()
+		);
+		return cache.lockItem( source, cacheKey, null )
+				.thenCompose( lock -> {
+					CompletionStage<Object> loaded;
+					try {
+						loaded = load( event, persister, keyToLoad, options );
+					}
+					catch (HibernateException he) {
+						//in case load() throws an exception
+						loaded = failedFuture( he );
+					}
+					return loaded.handle( (entity, x) -> cache.unlockItem( source, cacheKey, lock )
+							.thenApply( v -> returnOrRethrow( x, entity ) ) )
+							.thenCompose( Function.identity() );
+				} )
+				.thenApply( entity -> source.getPersistenceContextInternal().proxyFor( persister, keyToLoad, entity ) );
 	}
 
 
@@ -605,34 +662,234 @@ private CompletionStage<Object> doLoad(
 			return completedFuture( managed );
 		}
 
-		entity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad );
-		if ( entity != null ) {
-			if ( traceEnabled ) {
-				LOG.tracev(
-						"Resolved object in second-level cache: {0}",
-						infoString( persister, event.getEntityId(), session.getFactory() )
+		return loadFromSecondLevelCache( event, persister, keyToLoad )
+				.thenCompose( cached -> {
+					if ( cached != null ) {
+						if ( traceEnabled ) {
+							LOG.tracev(
+									"Resolved object in second-level cache: {0}",
+									infoString( persister, event.getEntityId(), session.getFactory() )
+							);
+						}
+						cacheNaturalId( event, persister, session, cached );
+						return completedFuture( cached );
+					}
+					else {
+						if ( traceEnabled ) {
+							LOG.tracev(
+									"Object not resolved in any cache: {0}",
+									infoString( persister, event.getEntityId(), session.getFactory() )
+							);
+						}
+						return loadFromDatasource( event, persister )
+								.thenApply( optional -> {
+									if ( optional!=null ) {
+										cacheNaturalId( event, persister, session, optional );
+									}
+									return optional;
+								} );
+					}
+				} );
+	}
+
+	/**
+	 * Attempt to load the entity from the second-level cache, without
+	 * blocking on the cache region.
+	 *
+	 * @return the entity, or {@code null} if it isn't in the cache
+	 *
+	 * @see CacheEntityLoaderHelper#loadFromSecondLevelCache(LoadEvent, EntityPersister, EntityKey)
+	 */
+	private CompletionStage<Object> loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey) {
+
+		final EventSource source = event.getSession();
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& event.getLockMode().lessThan( LockMode.READ );
+		if ( !useCache ) {
+			// we can't use cache here
+			return nullFuture();
+		}
+
+		final SessionFactoryImplementor factory = source.getFactory();
+		final ReactiveEntityDataAccess cache = ReactiveCaches.entityDataAccess( persister );
+		final Object ck = cache.generateCacheKey( event.getEntityId(), persister, factory, source.getTenantIdentifier() );
+		final SessionEventListenerManager eventListenerManager = source.getEventListenerManager();
+		eventListenerManager.cacheGetStart();
+		return cache.get( source, ck )
+				.thenCompose( ce -> {
+					eventListenerManager.cacheGetEnd( ce != null );
+					final StatisticsImplementor statistics = factory.getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						final String regionName = persister.getCacheAccessStrategy().getRegion().getName();
+						if ( ce == null ) {
+							statistics.entityCacheMiss( StatsHelper.INSTANCE.getRootEntityRole( persister ), regionName );
+						}
+						else {
+							statistics.entityCacheHit( StatsHelper.INSTANCE.getRootEntityRole( persister ), regionName );
+						}
+					}
+					return ce == null ? nullFuture() : processCachedEntry( event, persister, ce, entityKey );
+				} );
+	}
+
+	private CompletionStage<Object> processCachedEntry(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final Object ce,
+			final EntityKey entityKey) {
+
+		final EventSource source = event.getSession();
+		final CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
+		if ( entry.isReferenceEntry() ) {
+			if ( event.getInstanceToLoad() != null ) {
+				throw new HibernateException(
+						"Attempt to load entity [" + infoString( persister, event.getEntityId(), source.getFactory() )
+								+ "] from cache using provided object instance, but cache is storing references"
 				);
 			}
-			cacheNaturalId( event, persister, session, entity );
-			return completedFuture( entity );
+			return convertCacheReferenceEntryToEntity( (ReferenceCacheEntryImpl) entry, source, entityKey );
 		}
 		else {
-			if ( traceEnabled ) {
-				LOG.tracev(
-						"Object not resolved in any cache: {0}",
-						infoString( persister, event.getEntityId(), session.getFactory() )
-				);
-			}
-			return loadFromDatasource( event, persister )
-					.thenApply( optional -> {
-						if ( optional!=null ) {
-							cacheNaturalId( event, persister, session, optional );
+			return convertCacheEntryToEntity( entry, event.getEntityId(), persister, event, entityKey )
+					.thenApply( entity -> {
+						if ( !persister.isInstance( entity ) ) {
+							throw new WrongClassException(
+									"loaded object was of wrong class " + entity.getClass(),
+									event.getEntityId(),
+									persister.getEntityName()
+							);
 						}
-						return optional;
+						return entity;
 					} );
 		}
 	}
 
+	private CompletionStage<Object> convertCacheReferenceEntryToEntity(
+			final ReferenceCacheEntryImpl referenceCacheEntry,
+			final EventSource session,
+			final EntityKey entityKey) {
+
+		final Object entity = referenceCacheEntry.getReference();
+		if ( entity == null ) {
+			throw new IllegalStateException( "Reference cache entry contained null : " + referenceCacheEntry );
+		}
+
+		// make it circular-reference safe
+		final ReactivePersistenceContextAdapter persistenceContext =
+				(ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
+		if ( entity instanceof ManagedEntity ) {
+			persistenceContext.addReferenceEntry( entity, Status.READ_ONLY );
+		}
+		else {
+			TwoPhaseLoad.addUninitializedCachedEntity(
+					entityKey,
+					entity,
+					referenceCacheEntry.getSubclassPersister(),
+					LockMode.NONE,
+					referenceCacheEntry.getVersion(),
+					session
+			);
+		}
+		return persistenceContext.reactiveInitializeNonLazyCollections()
+				.thenApply( v -> entity );
+	}
+
+	/**
+	 * Assemble the entity from its cached state, and then initialize
+	 * its non-lazy collections.
+	 *
+	 * @see CacheEntityLoaderHelper
+	 */
+	private CompletionStage<Object> convertCacheEntryToEntity(
+			final CacheEntry entry,
+			final Serializable entityId,
+			final EntityPersister persister,
+			final LoadEvent event,
+			final EntityKey entityKey) {
+
+		final EventSource session = event.getSession();
+		final SessionFactoryImplementor factory = session.getFactory();
+		final EntityPersister subclassPersister = factory.getMetamodel().entityPersister( entry.getSubclass() );
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracef(
+					"Converting second-level cache entry [%s] into entity : %s",
+					entry,
+					infoString( persister, entityId, factory )
+			);
+		}
+
+		final Object optionalObject = event.getInstanceToLoad();
+		final Object entity = optionalObject == null
+				? session.instantiate( subclassPersister, entityId )
+				: optionalObject;
+
+		// make it circular-reference safe
+		TwoPhaseLoad.addUninitializedCachedEntity(
+				entityKey,
+				entity,
+				subclassPersister,
+				LockMode.NONE,
+				entry.getVersion(),
+				session
+		);
+
+		final ReactivePersistenceContextAdapter persistenceContext =
+				(ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
+		final Type[] types = subclassPersister.getPropertyTypes();
+		// initializes the entity by (desired) side-effect
+		final Object[] values = ( (StandardCacheEntryImpl) entry ).assemble(
+				entity,
+				entityId,
+				subclassPersister,
+				session.getInterceptor(),
+				session
+		);
+		if ( ( (StandardCacheEntryImpl) entry ).isDeepCopyNeeded() ) {
+			TypeHelper.deepCopy( values, types, subclassPersister.getPropertyUpdateability(), values, session );
+		}
+		final Object version = Versioning.getVersion( values, subclassPersister );
+		LOG.tracef( "Cached Version : %s", version );
+
+		final Object proxy = persistenceContext.getProxy( entityKey );
+		final boolean isReadOnly = proxy != null
+				// there is already a proxy for this impl, only set
+				// the status to read-only if the proxy is read-only
+				? ( (HibernateProxy) proxy ).getHibernateLazyInitializer().isReadOnly()
+				: session.isDefaultReadOnly();
+
+		persistenceContext.addEntry(
+				entity,
+				isReadOnly ? Status.READ_ONLY : Status.MANAGED,
+				values,
+				null,
+				entityId,
+				version,
+				LockMode.NONE,
+				true,
+				subclassPersister,
+				false
+		);
+		subclassPersister.afterInitialize( entity, session );
+
+		return persistenceContext.reactiveInitializeNonLazyCollections()
+				.thenApply( v -> {
+					//PostLoad is needed for EJB3
+					final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
+							.setEntity( entity )
+							.setId( entityId )
+							.setPersister( persister );
+					factory.getServiceRegistry().getService( EventListenerRegistry.class )
+							.getEventListenerGroup( EventType.POST_LOAD )
+							.fireEventOnEachListener( postLoadEvent, PostLoadEventListener::onPostLoad );
+					return entity;
+				} );
+	}
+
 	private void cacheNaturalId(LoadEvent event, EntityPersister persister, EventSource session, Object entity) {
 		if ( entity != null && persister.hasNaturalIdentifier() ) {
 			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
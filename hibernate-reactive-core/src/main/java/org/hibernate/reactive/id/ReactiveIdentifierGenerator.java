@@ -10,8 +10,12 @@
 import org.hibernate.reactive.id.impl.TableReactiveIdentifierGenerator;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
 /**
  * A replacement for {@link org.hibernate.id.IdentifierGenerator},
  * which supports a non-blocking method for obtaining the generated
@@ -34,4 +38,20 @@
 	 * @param session the reactive session
 	 */
 	CompletionStage<Id> generate(ReactiveConnectionSupplier session, Object entity);
+
+	/**
+	 * Returns generated identifiers for the given entities, in the same
+	 * order, via a {@link CompletionStage}. An implementation may obtain
+	 * all the identifiers in a single round trip to the database.
+	 * <p>
+	 * By default, {@link #generate} is called for each entity in turn.
+	 *
+	 * @param session the reactive session
+	 * @param entities the entities which need an identifier
+	 */
+	default CompletionStage<List<Id>> generateAll(ReactiveConnectionSupplier session, List<?> entities) {
+		final List<Id> ids = new ArrayList<>( entities.size() );
+		return loop( entities, entity -> generate( session, entity ).thenAccept( ids::add ) )
+				.thenApply( v -> ids );
+	}
 }
@@ -5,26 +5,70 @@
  */
 package org.hibernate.reactive.id.impl;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.service.ServiceRegistry;
 
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 
 /**
  * A {@link ReactiveIdentifierGenerator} which uses the database to allocate
  * blocks of ids. A block is identified by its "hi" value (the first id in
  * the block). While a new block is being allocated, concurrent streams wait
  * without blocking.
+ * <p>
+ * The current block is replaced atomically, and ids are handed out from it
+ * by incrementing an atomic counter, so that streams running on different
+ * event loops never contend for a lock. Streams which find the block used
+ * up while a new block is being allocated are queued as dependents of a
+ * {@link CompletableFuture}.
+ * <p>
+ * If {@link Settings#ID_BLOCK_LOW_WATER_MARK} is set, the next block is
+ * fetched in the background, using a connection from the pool, as soon as
+ * the number of ids left in the current block drops to the low-water mark.
+ * <p>
+ * If {@link Settings#ID_BLOCK_STRIPE_SIZE} is set, each thread, that is,
+ * each Vert.x event loop, claims a stripe of ids from the current block,
+ * and hands out ids from its own stripe without touching shared state.
+ * Ids are then not allocated in order across threads.
+ * <p>
+ * The meaning of the value obtained from the database depends on the
+ * {@linkplain #configureOptimizer optimizer}. By default, as with the
+ * {@code pooled-lo} optimizer of Hibernate ORM, it's the first id of the
+ * block. With the {@code pooled} optimizer, it's the last id of the block,
+ * so that ids can be allocated from the same sequence or table by a program
+ * using Hibernate ORM with the same optimizer.
  *
  * @author Gavin King
  */
 public abstract class BlockingIdentifierGenerator implements ReactiveIdentifierGenerator<Long> {
 
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	/**
 	 * The block size (the number of "lo" values for each "hi" value)
 	 */
@@ -35,66 +79,279 @@ public abstract class BlockingIdentifierGenerator implements ReactiveIdentifierG
 	 */
 	protected abstract CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session);
 
-	private int loValue;
-	private long hiValue;
+	/**
+	 * Obtain the given number of "hi" values from the database. By
+	 * default, {@link #nextHiValue} is called once for each value.
+	 */
+	protected CompletionStage<List<Long>> nextHiValues(ReactiveConnectionSupplier session, int count) {
+		final List<Long> values = new ArrayList<>( count );
+		return loop( 0, count, i -> nextHiValue( session ).thenAccept( values::add ) )
+				.thenApply( v -> values );
+	}
+
+	/**
+	 * A block of ids, starting at the "hi" value. The "lo" value is the
+	 * offset of the next id to be handed out.
+	 */
+	private static final class Block {
+		private final long hi;
+		private final int size;
+		private final AtomicInteger lo;
+		private final AtomicBoolean prefetched = new AtomicBoolean();
+
+		private Block(long hi, int lo, int size) {
+			this.hi = hi;
+			this.size = size;
+			this.lo = new AtomicInteger( lo );
+		}
+
+		/**
+		 * Claim a range of ids.
+		 *
+		 * @return the offset of the first id claimed, or -1 if the
+		 *         block is used up
+		 */
+		private int take(int count) {
+			if ( lo.get() >= size ) {
+				return -1;
+			}
+			final int start = lo.getAndAdd( count );
+			return start < size ? start : -1;
+		}
 
-	private volatile List<Runnable> queue = null;
+		private long next() {
+			// read before incrementing, so that the counter
+			// can't overflow once the block is used up
+			if ( lo.get() >= size ) {
+				return -1;
+			}
+			final int next = lo.getAndIncrement();
+			return next < size ? hi + next : -1;
+		}
+	}
 
-	protected synchronized long next() {
-		return loValue > 0 && loValue < getBlockSize()
-				? hiValue + loValue++
-				: -1; //flag value indicating that we need to hit db
+	/**
+	 * A range of ids owned by a single thread.
+	 */
+	private static final class Stripe {
+		private long next;
+		private long end;
 	}
 
-	protected synchronized long next(long hi) {
-		hiValue = hi;
-		loValue = 1;
-		return hi;
+	private final AtomicReference<Block> block = new AtomicReference<>();
+
+	/**
+	 * Completed when the block currently being allocated, if any,
+	 * is available.
+	 */
+	private final AtomicReference<CompletableFuture<Void>> allocation = new AtomicReference<>();
+
+	/**
+	 * The "hi" value of the next block, fetched in the background.
+	 */
+	private final AtomicReference<CompletionStage<Long>> prefetched = new AtomicReference<>();
+
+	private StandardOptimizerDescriptor optimizer = StandardOptimizerDescriptor.POOLED_LO;
+	private long initialValue = -1;
+	private int lowWaterMark;
+	private int stripeSize;
+	private ThreadLocal<Stripe> stripes;
+	private ServiceRegistry serviceRegistry;
+
+	/**
+	 * Read {@link Settings#ID_BLOCK_LOW_WATER_MARK} and
+	 * {@link Settings#ID_BLOCK_STRIPE_SIZE}. Called by {@code configure()}.
+	 */
+	protected void configureAllocation(ServiceRegistry serviceRegistry) {
+		this.serviceRegistry = serviceRegistry;
+		final Map<?, ?> settings = serviceRegistry.getService( ConfigurationService.class ).getSettings();
+		lowWaterMark = ConfigurationHelper.getInt( Settings.ID_BLOCK_LOW_WATER_MARK, settings, 0 );
+		stripeSize = ConfigurationHelper.getInt( Settings.ID_BLOCK_STRIPE_SIZE, settings, 0 );
+		stripes = stripeSize > 1 ? ThreadLocal.withInitial( Stripe::new ) : null;
+	}
+
+	/**
+	 * Determine how values obtained from the database are interpreted,
+	 * from the {@code optimizer} parameter of the generator, or from
+	 * {@value AvailableSettings#PREFERRED_POOLED_OPTIMIZER}. Called by
+	 * {@code configure()}.
+	 * <p>
+	 * The optimizers {@code none}, {@code pooled}, and {@code pooled-lo}
+	 * are supported, and {@code pooled-lotl} is treated as
+	 * {@code pooled-lo}.
+	 *
+	 * @param initialValue the initial value of the sequence or table,
+	 *                     or -1 if unknown
+	 */
+	protected void configureOptimizer(Properties params, ServiceRegistry serviceRegistry, long initialValue) {
+		this.initialValue = initialValue;
+		String name = ConfigurationHelper.getString( SequenceStyleGenerator.OPT_PARAM, params );
+		if ( name == null ) {
+			name = ConfigurationHelper.getString(
+					AvailableSettings.PREFERRED_POOLED_OPTIMIZER,
+					serviceRegistry.getService( ConfigurationService.class ).getSettings()
+			);
+		}
+		if ( name == null ) {
+			optimizer = StandardOptimizerDescriptor.POOLED_LO;
+			return;
+		}
+		final StandardOptimizerDescriptor descriptor = StandardOptimizerDescriptor.fromExternalName( name );
+		if ( descriptor == StandardOptimizerDescriptor.NONE || descriptor == StandardOptimizerDescriptor.POOLED ) {
+			optimizer = descriptor;
+		}
+		else {
+			if ( descriptor != StandardOptimizerDescriptor.POOLED_LO
+					&& descriptor != StandardOptimizerDescriptor.POOLED_LOTL ) {
+				LOG.unsupportedOptimizer( name );
+			}
+			optimizer = StandardOptimizerDescriptor.POOLED_LO;
+		}
+	}
+
+	/**
+	 * The number of ids allocated for each value obtained from the
+	 * database, taking into account the optimizer.
+	 */
+	private int blockSize() {
+		return optimizer == StandardOptimizerDescriptor.NONE ? 1 : getBlockSize();
+	}
+
+	/**
+	 * The block of ids for the given value obtained from the database.
+	 */
+	private Block newBlock(long value, int blockSize) {
+		if ( optimizer == StandardOptimizerDescriptor.POOLED ) {
+			// the value is the end of the block, except for the
+			// very first value, which is a block all by itself,
+			// just as for PooledOptimizer in Hibernate ORM
+			return value == initialValue || ( initialValue == -1 && value < blockSize )
+					? new Block( value, 0, 1 )
+					: new Block( value - blockSize + 1, 0, blockSize );
+		}
+		else {
+			return new Block( value, 0, blockSize );
+		}
 	}
 
 	@Override
 	public CompletionStage<Long> generate(ReactiveConnectionSupplier session, Object entity) {
-		if ( getBlockSize() <= 1 ) {
+		final int blockSize = blockSize();
+		if ( blockSize <= 1 ) {
 			//special case where we're not using blocking at all
 			return nextHiValue( session );
 		}
 
-		long local = next();
-		if ( local >= 0 ) {
-			// We don't need to update or initialize the hi
-			// value in the table, so just increment the lo
-			// value and return the next id in the block
-			return completedFuture( local );
+		final Stripe stripe = stripes == null ? null : stripes.get();
+		if ( stripe != null && stripe.next < stripe.end ) {
+			// the hot path in striped mode: no shared state
+			return completedFuture( stripe.next++ );
 		}
-		else {
-			synchronized (this) {
-				CompletableFuture<Long> result = new CompletableFuture<>();
-				if ( queue == null ) {
-					// make a queue for any concurrent streams
-					queue = new ArrayList<>();
-					// go off and fetch the next hi value from db
-					nextHiValue( session ).thenAccept( id -> {
-//						Vertx.currentContext().runOnContext(v -> {
-						List<Runnable> list;
-						synchronized (this) {
-							// clone ref to the queue
-							list = queue;
-							queue = null;
-							// use the fetched hi value in this stream
-							result.complete( next( id ) );
-						}
-						// send waiting streams back to try again
-						list.forEach( Runnable::run );
-//						} );
-					} );
+
+		while ( true ) {
+			final Block current = block.get();
+			final long local = current == null ? -1 : claim( current, stripe );
+			if ( local >= 0 ) {
+				// We don't need to update or initialize the hi
+				// value in the table, so just increment the lo
+				// value and return the next id in the block
+				final long end = stripe == null ? local + 1 : stripe.end;
+				if ( lowWaterMark > 0 && current.size - ( end - current.hi ) <= lowWaterMark ) {
+					prefetch( session, current );
 				}
-				else {
-					// wait for the concurrent fetch to complete
-					// note that we carefully capture the right session,entity here!
-					queue.add( () -> generate( session, entity ).thenAccept( result::complete ) );
+				return completedFuture( local );
+			}
+
+			final CompletableFuture<Void> pending = allocation.get();
+			if ( pending != null ) {
+				// wait for the concurrent fetch to complete, then try again
+				// note that we carefully capture the right session,entity here!
+				return pending.thenCompose( v -> generate( session, entity ) );
+			}
+
+			final CompletableFuture<Void> allocated = new CompletableFuture<>();
+			if ( allocation.compareAndSet( null, allocated ) ) {
+				if ( block.get() != current ) {
+					// another stream installed a new block
+					// between our two reads, so use that one
+					allocation.set( null );
+					allocated.complete( null );
+					continue;
 				}
-				return result;
+				// use the block fetched in the background, if
+				// any, or go off and fetch the next hi value
+				return nextBlock( session )
+						.thenApply( value -> {
+							final Block fetched = newBlock( value, blockSize );
+							// the first id of the new block is used by this
+							// stream, so claim it before anyone else sees it
+							final long id = claim( fetched, stripes == null ? null : stripes.get() );
+							block.set( fetched );
+							return id;
+						} )
+						.whenComplete( (id, throwable) -> {
+							// send waiting streams back to try again
+							allocation.set( null );
+							allocated.complete( null );
+						} );
 			}
 		}
 	}
+
+	/**
+	 * Claim the next id from the given block or, in striped mode, a
+	 * new stripe of ids for the current thread.
+	 *
+	 * @return the id, or -1 if the block is used up
+	 */
+	private long claim(Block current, Stripe stripe) {
+		if ( stripe == null ) {
+			return current.next();
+		}
+		final int start = current.take( stripeSize );
+		if ( start < 0 ) {
+			return -1;
+		}
+		stripe.next = current.hi + start + 1;
+		stripe.end = current.hi + Math.min( start + stripeSize, current.size );
+		return current.hi + start;
+	}
+
+	@Override
+	public CompletionStage<List<Long>> generateAll(ReactiveConnectionSupplier session, List<?> entities) {
+		if ( blockSize() <= 1 && entities.size() > 1 ) {
+			// no blocks, so every id is a round trip, unless
+			// we can obtain all the values at once
+			return nextHiValues( session, entities.size() );
+		}
+		return ReactiveIdentifierGenerator.super.generateAll( session, entities );
+	}
+
+	private CompletionStage<Long> nextBlock(ReactiveConnectionSupplier session) {
+		final CompletionStage<Long> hiValue = prefetched.getAndSet( null );
+		return hiValue == null
+				? nextHiValue( session )
+				// if the background fetch failed, try again inline
+				: hiValue.handle( (hi, throwable) -> throwable == null ? completedFuture( hi ) : nextHiValue( session ) )
+						.thenCompose( Function.identity() );
+	}
+
+	/**
+	 * Fetch the block after the given block in the background, using
+	 * a new connection, so that it doesn't participate in the current
+	 * transaction.
+	 */
+	private void prefetch(ReactiveConnectionSupplier session, Block current) {
+		if ( current.prefetched.compareAndSet( false, true ) ) {
+			final ReactiveConnectionPool pool = serviceRegistry.getService( ReactiveConnectionPool.class );
+			final String tenantId = session instanceof SharedSessionContractImplementor
+					? ( (SharedSessionContractImplementor) session ).getTenantIdentifier()
+					: null;
+			final CompletionStage<ReactiveConnection> connection = tenantId == null
+					? pool.getConnection()
+					: pool.getConnection( tenantId );
+			prefetched.set( connection.thenCompose( c -> nextHiValue( () -> c )
+					.whenComplete( (hi, throwable) -> c.close() ) ) );
+		}
+	}
 }
@@ -6,14 +6,20 @@
 package org.hibernate.reactive.id.impl;
 
 import org.hibernate.boot.model.relational.QualifiedName;
+import org.hibernate.dialect.CockroachDB192Dialect;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.Oracle8iDialect;
+import org.hibernate.dialect.PostgreSQL9Dialect;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.id.Configurable;
 import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.reactive.pool.impl.Parameters;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.Type;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.CompletionStage;
 
@@ -33,6 +39,8 @@
 
 	private String sql;
 
+	private String multiValueSql;
+
 	private int increment;
 
 	@Override
@@ -42,7 +50,21 @@ protected int getBlockSize() {
 
 	@Override
 	protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session) {
-		return session.getReactiveConnection().selectIdentifier( sql, NO_PARAMS, Long.class ).thenApply( this::next );
+		return session.getReactiveConnection().selectIdentifier( sql, NO_PARAMS, Long.class );
+	}
+
+	@Override
+	protected CompletionStage<List<Long>> nextHiValues(ReactiveConnectionSupplier session, int count) {
+		if ( multiValueSql == null ) {
+			return super.nextHiValues( session, count );
+		}
+		return session.getReactiveConnection()
+				.select( multiValueSql, new Object[] { count } )
+				.thenApply( result -> {
+					final List<Long> values = new ArrayList<>( count );
+					result.forEachRow( row -> values.add( ( (Number) row.getValue( 0 ) ).longValue() ) );
+					return values;
+				} );
 	}
 
 	@Override
@@ -59,6 +81,31 @@ public void configure(Type type, Properties params, ServiceRegistry serviceRegis
 		increment = determineIncrementForSequenceEmulation( params );
 
 		sql = dialect.getSequenceNextValString( renderedSequenceName );
+		multiValueSql = multiValueSql( dialect, renderedSequenceName );
+
+		configureOptimizer(
+				params,
+				serviceRegistry,
+				getInt( SequenceStyleGenerator.INITIAL_PARAM, params, SequenceStyleGenerator.DEFAULT_INITIAL_VALUE )
+		);
+		configureAllocation( serviceRegistry );
+	}
+
+	/**
+	 * A query which obtains several values of the sequence at once, with
+	 * the number of values as its only parameter, or {@code null} if the
+	 * dialect has no convenient way to write such a query.
+	 */
+	protected String multiValueSql(Dialect dialect, String sequenceName) {
+		final String nextval = dialect.getSelectSequenceNextValString( sequenceName );
+		if ( dialect instanceof PostgreSQL9Dialect || dialect instanceof CockroachDB192Dialect ) {
+			return Parameters.instance( dialect )
+					.process( "select " + nextval + " from generate_series(1, ?)" );
+		}
+		if ( dialect instanceof Oracle8iDialect ) {
+			return "select " + nextval + " from dual connect by level <= ?";
+		}
+		return null;
 	}
 
 	protected int determineIncrementForSequenceEmulation(Properties params) {
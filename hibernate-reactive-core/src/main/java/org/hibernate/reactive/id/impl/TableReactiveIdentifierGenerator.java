@@ -145,6 +145,9 @@ public void configure(Type type, Properties params, ServiceRegistry serviceRegis
 		selectQuery = parameters.process( applyLocksToSelect( dialect, "tbl", buildSelectQuery() ) );
 		updateQuery = parameters.process( buildUpdateQuery() );
 		insertQuery = parameters.process( buildInsertQuery() );
+
+		configureOptimizer( params, serviceRegistry, initialValue );
+		configureAllocation( serviceRegistry );
 	}
 
 	private String applyLocksToSelect(Dialect dialect, String alias, String query) {
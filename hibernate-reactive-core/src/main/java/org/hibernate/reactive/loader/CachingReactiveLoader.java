@@ -9,31 +9,49 @@
 import java.lang.invoke.MethodHandles;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.hibernate.HibernateException;
 import org.hibernate.QueryException;
 import org.hibernate.cache.spi.FilterKey;
 import org.hibernate.cache.spi.QueryKey;
-import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.dialect.pagination.LimitHelper;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.cache.ReactiveQueryResultsCache;
+import org.hibernate.reactive.cache.impl.ReactiveCaches;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.event.impl.UnexpectedAccessToTheDatabase;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.session.ReactiveResultCursor;
+import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.transform.CacheableResultTransformer;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.logSqlException;
+import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * Defines common reactive operations inherited by query loaders, in
@@ -73,14 +91,85 @@ default CompletionStage<List<Object>> doReactiveList(
 				} );
 	}
 
+	/**
+	 * Execute a query which returns only scalar values, mapping the rows
+	 * directly to the query results using the given {@link RowProjection}.
+	 */
+	@SuppressWarnings("unchecked")
+	default CompletionStage<List<T>> doReactiveProjection(
+			final String sql,
+			final String queryIdentifier,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final RowProjection projection) {
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
+
+		final RowSelection selection = queryParameters.getRowSelection();
+		final LimitHandler limitHandler = limitHandler( selection, session );
+		// skip the first rows if the limit handler didn't
+		final int firstRow = limitHandler.supportsLimitOffset() && LimitHelper.useLimit( limitHandler, selection )
+				? 0
+				: LimitHelper.getFirstRow( selection );
+		final int maxRows = LimitHelper.hasMaxRows( selection ) ? selection.getMaxRows() : Integer.MAX_VALUE;
+
+		final ReactiveConnection connection = ( (ReactiveConnectionSupplier) session ).getReactiveConnection();
+		return executeReactiveQueryStatement( sql, queryParameters, new ArrayList<>(), session,
+				ReactiveLoader.isReadOnlyQuery( queryParameters, session )
+						? connection::selectReadOnly
+						: connection::select )
+				.thenApply( result -> projection.read( result, firstRow, maxRows ) )
+				.handle( (list, err) -> {
+					logSqlException( err, () -> "could not execute query", sql );
+
+					if ( err == null && stats ) {
+						final long endTime = System.nanoTime();
+						final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+						statistics.queryExecuted( queryIdentifier, list.size(), milliseconds );
+					}
+
+					return returnOrRethrow( err, (List<T>) list );
+				} );
+	}
+
 	default CompletionStage<List<T>> reactiveListIgnoreQueryCache(
 			String sql, String queryIdentifier,
 			SharedSessionContractImplementor session,
 			QueryParameters queryParameters) {
+		final RowProjection projection = rowProjection( queryParameters );
+		if ( projection != null ) {
+			return doReactiveProjection( sql, queryIdentifier, session, queryParameters, projection );
+		}
 		return doReactiveList( sql, queryIdentifier, session, queryParameters, null )
 				.thenApply( result -> getResultList( result, queryParameters.getResultTransformer() ) );
 	}
 
+	/**
+	 * The {@link RowProjection} used to map the rows of the result
+	 * directly to the results of the given query, bypassing the
+	 * {@link org.hibernate.loader.Loader}.
+	 *
+	 * @return the {@code RowProjection}, or {@code null} if the query
+	 *         results must be processed by the {@code Loader}
+	 */
+	default RowProjection rowProjection(QueryParameters queryParameters) {
+		return null;
+	}
+
+	/**
+	 * Execute the query using a database cursor, bypassing the query
+	 * cache, and returning the results one chunk at a time.
+	 */
+	default CompletionStage<ReactiveResultCursor<T>> reactiveCursor(
+			String sql,
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) {
+		return doReactiveQueryUsingCursor( sql, session, queryParameters, true, null )
+				.thenApply( cursor -> cursor.map( result -> getResultList( result, queryParameters.getResultTransformer() ) ) );
+	}
+
 	default CompletionStage<List<T>> reactiveListUsingQueryCache(
 			final String sql,
 			final String queryIdentifier,
@@ -89,43 +178,41 @@ default CompletionStage<List<T>> reactiveListUsingQueryCache(
 			final Set<Serializable> querySpaces,
 			final Type[] resultTypes) {
 
-		QueryResultsCache queryCache = session.getFactory().getCache()
-				.getQueryResultsCache( queryParameters.getCacheRegion() );
+		final ReactiveQueryResultsCache queryCache =
+				ReactiveCaches.queryResultsCache( session.getFactory(), queryParameters.getCacheRegion() );
 
-		QueryKey key = queryKey( sql, session, queryParameters );
+		final QueryKey key = queryKey( sql, session, queryParameters );
 
-		final List<Object> cachedList;
-		try {
-			cachedList = getReactiveResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, queryCache, key );
-		}
-		catch (UnexpectedAccessToTheDatabase e) {
-			LOG.debugf( "Some of the entities are not in the cache. The cache will be ignored for query: %s ", sql );
+		return getResultFromQueryCache( queryIdentifier, session, queryParameters, querySpaces, resultTypes, queryCache, key )
+				.handle( (cachedList, err) -> {
+					final Throwable cause = err instanceof CompletionException ? err.getCause() : err;
+					if ( cause instanceof UnexpectedAccessToTheDatabase ) {
+						LOG.debugf( "Some of the entities are not in the cache. The cache will be ignored for query: %s ", sql );
 
-			// Some of the entities in the query results aren't cached and therefore it trys to load them from the db.
-			// Currently this scenario causes an AssertionFailure exception because we cannot deal with the
-			// CompletionStage in that phase.
-			return reactiveListIgnoreQueryCache( sql, queryIdentifier, session, queryParameters );
-		}
+						// Some of the entities in the query results aren't cached and can't be represented
+						// by a proxy (or the session is stateless), so the cached results can't be assembled
+						// without going to the db, and we can't deal with the CompletionStage in that phase.
+						return reactiveListIgnoreQueryCache( sql, queryIdentifier, session, queryParameters );
+					}
+					else if ( cause != null ) {
+						return CompletionStages.<List<T>>failedFuture( cause );
+					}
 
-		CompletionStage<List<Object>> list;
-		if ( cachedList == null ) {
-			list = doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
-					.thenApply( cachableList -> {
-						putReactiveResultInQueryCache( session, queryParameters, resultTypes, queryCache, key, cachableList );
-						return cachableList;
-					} );
-		}
-		else {
-			list = completedFuture( cachedList );
-		}
+					final CompletionStage<List<Object>> list = cachedList == null
+							? doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
+									.thenCompose( cachableList -> putResultInQueryCache( queryIdentifier, session, resultTypes, queryCache, key, cachableList )
+											.thenApply( v -> cachableList ) )
+							: completedFuture( cachedList );
 
-		return list.thenApply(
-				result -> getResultList(
-						transform( queryParameters, key, result,
-								resolveResultTransformer( queryParameters.getResultTransformer() ) ),
-						queryParameters.getResultTransformer()
-				)
-		);
+					return list.thenApply(
+							result -> getResultList(
+									transform( queryParameters, key, result,
+											resolveResultTransformer( queryParameters.getResultTransformer() ) ),
+									queryParameters.getResultTransformer()
+							)
+					);
+				} )
+				.thenCompose( Function.identity() );
 	}
 
 	default List<?> transform(QueryParameters queryParameters, QueryKey key, List<Object> result,
@@ -169,9 +256,103 @@ default CacheableResultTransformer cacheableResultTransformer(QueryParameters qu
 
 	boolean[] includeInResultRow();
 
-	List<Object> getReactiveResultFromQueryCache(SharedSessionContractImplementor session, QueryParameters queryParameters, Set<Serializable> querySpaces, Type[] resultTypes, QueryResultsCache queryCache, QueryKey key);
+	/**
+	 * Look up the results of the query in the query cache, without
+	 * blocking on the cache region.
+	 *
+	 * @see org.hibernate.loader.Loader#getResultFromQueryCache
+	 */
+	@SuppressWarnings("unchecked")
+	default CompletionStage<List<Object>> getResultFromQueryCache(
+			String queryIdentifier,
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			Set<Serializable> querySpaces,
+			Type[] resultTypes,
+			ReactiveQueryResultsCache queryCache,
+			QueryKey key) {
+		if ( !session.getCacheMode().isGetEnabled() ) {
+			return nullFuture();
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
+		if ( queryParameters.isReadOnlyInitialized() ) {
+			// The read-only/modifiable mode for the query was explicitly set.
+			// Temporarily set the default read-only/modifiable setting to the query's setting.
+			persistenceContext.setDefaultReadOnly( queryParameters.isReadOnly() );
+		}
+		else {
+			// The read-only/modifiable setting for the query was not initialized.
+			// Use the default read-only/modifiable from the persistence context instead.
+			queryParameters.setReadOnly( persistenceContext.isDefaultReadOnly() );
+		}
+
+		// Entities missing from the second-level cache are represented
+		// by proxies while the cached results are assembled, and are then
+		// fetched in batches, instead of re-executing the whole query,
+		// unless one of them has been deleted, making the results stale
+		final boolean deferLoads = session instanceof ReactiveSession
+				&& ( (ReactivePersistenceContextAdapter) persistenceContext ).beginDeferredLoads();
+
+		final Type[] cachedResultTypes = key.getResultTransformer().getCachedResultTypes( resultTypes );
+		return queryCache.get( key, querySpaces, cachedResultTypes, session )
+				.handle( (result, err) -> {
+					if ( !deferLoads ) {
+						return returnOrRethrow( err, completedFuture( (List<Object>) result ) );
+					}
+					final ReactivePersistenceContextAdapter context = (ReactivePersistenceContextAdapter) persistenceContext;
+					final Map<Object, EntityKey> proxies = context.endDeferredLoads();
+					if ( err != null ) {
+						context.discardDeferredLoads( proxies );
+						return failedFuture( err );
+					}
+					return context.fetchDeferredLoads( proxies, result );
+				} )
+				.thenCompose( Function.identity() )
+				.handle( (result, err) -> {
+					// Restore the original default
+					persistenceContext.setDefaultReadOnly( defaultReadOnlyOrig );
+
+					final StatisticsImplementor statistics = session.getFactory().getStatistics();
+					if ( err == null && statistics.isStatisticsEnabled() ) {
+						if ( result == null ) {
+							statistics.queryCacheMiss( queryIdentifier, queryCache.getRegionName() );
+						}
+						else {
+							statistics.queryCacheHit( queryIdentifier, queryCache.getRegionName() );
+						}
+					}
+					return returnOrRethrow( err, result );
+				} );
+	}
+
+	/**
+	 * Put the results of the query in the query cache, without
+	 * blocking on the cache region.
+	 *
+	 * @see org.hibernate.loader.Loader#putResultInQueryCache
+	 */
+	default CompletionStage<Void> putResultInQueryCache(
+			String queryIdentifier,
+			SharedSessionContractImplementor session,
+			Type[] resultTypes,
+			ReactiveQueryResultsCache queryCache,
+			QueryKey key,
+			List<Object> result) {
+		if ( !session.getCacheMode().isPutEnabled() ) {
+			return voidFuture();
+		}
 
-	void putReactiveResultInQueryCache(SharedSessionContractImplementor session, QueryParameters queryParameters, Type[] resultTypes, QueryResultsCache queryCache, QueryKey key, List<Object> cachableList);
+		final Type[] cachedResultTypes = key.getResultTransformer().getCachedResultTypes( resultTypes );
+		return queryCache.put( key, result, cachedResultTypes, session )
+				.thenAccept( put -> {
+					final StatisticsImplementor statistics = session.getFactory().getStatistics();
+					if ( put && statistics.isStatisticsEnabled() ) {
+						statistics.queryCachePut( queryIdentifier, queryCache.getRegionName() );
+					}
+				} );
+	}
 
 	ResultTransformer resolveResultTransformer(ResultTransformer resultTransformer);
 
@@ -0,0 +1,80 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.session.ReactiveResultCursor;
+
+import static java.util.Collections.emptyList;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+
+/**
+ * A {@link ReactiveResultCursor} which reads rows from a
+ * {@link ReactiveConnection.Cursor} and hands each chunk
+ * to a loader for hydration.
+ *
+ * @see ReactiveLoader#doReactiveQueryUsingCursor
+ */
+class LoaderResultCursor implements ReactiveResultCursor<Object> {
+
+	/**
+	 * The number of rows read at a time when neither the query nor
+	 * the configuration property {@value org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_SIZE}
+	 * specifies a fetch size.
+	 */
+	static final int DEFAULT_FETCH_SIZE = 100;
+
+	private final ReactiveConnection.Cursor cursor;
+	private final int fetchSize;
+	private final Function<CompletionStage<ResultSet>, CompletionStage<List<Object>>> processor;
+
+	LoaderResultCursor(
+			ReactiveConnection.Cursor cursor,
+			int fetchSize,
+			Function<CompletionStage<ResultSet>, CompletionStage<List<Object>>> processor) {
+		this.cursor = cursor;
+		this.fetchSize = fetchSize;
+		this.processor = processor;
+	}
+
+	/**
+	 * The fetch size specified for the given query, or, if none, the
+	 * fetch size specified by {@link org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_SIZE}.
+	 */
+	static int fetchSize(QueryParameters queryParameters, SharedSessionContractImplementor session) {
+		final RowSelection selection = queryParameters.getRowSelection();
+		if ( selection != null && selection.getFetchSize() != null && selection.getFetchSize() > 0 ) {
+			return selection.getFetchSize();
+		}
+		final Integer fetchSize = session.getFactory().getSessionFactoryOptions().getJdbcFetchSize();
+		return fetchSize != null && fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE;
+	}
+
+	@Override
+	public CompletionStage<List<Object>> next() {
+		return cursor.hasMore()
+				? processor.apply( cursor.read( fetchSize ) )
+				: completedFuture( emptyList() );
+	}
+
+	@Override
+	public boolean hasMore() {
+		return cursor.hasMore();
+	}
+
+	@Override
+	public CompletionStage<Void> close() {
+		return cursor.close();
+	}
+}
@@ -6,6 +6,9 @@
 package org.hibernate.reactive.loader;
 
 import org.hibernate.JDBCException;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.StatelessSession;
 import org.hibernate.dialect.PostgreSQL9Dialect;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.LimitHelper;
@@ -14,8 +17,10 @@
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.impl.Parameters;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.transform.ResultTransformer;
 
 import java.sql.ResultSet;
@@ -23,6 +28,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /**
  * Defines common reactive operations inherited by all kinds of loaders.
@@ -50,6 +57,56 @@ default CompletionStage<List<Object>> doReactiveQueryAndInitializeNonLazyCollect
 			final QueryParameters queryParameters,
 			final boolean returnProxies,
 			final ResultTransformer forcedResultTransformer) {
+		final List<AfterLoadAction> afterLoadActions = new ArrayList<>();
+		return reactiveProcessResultsAndInitializeNonLazyCollections(
+				() -> executeReactiveQueryStatement( sql, queryParameters, afterLoadActions, session ),
+				session,
+				queryParameters,
+				returnProxies,
+				forcedResultTransformer,
+				afterLoadActions
+		);
+	}
+
+	/**
+	 * Execute the given query using a database cursor, returning a
+	 * {@link ReactiveResultCursor} which hydrates the rows one chunk
+	 * at a time, as they are read from the cursor. The size of each
+	 * chunk is determined by the fetch size of the query.
+	 */
+	default CompletionStage<ReactiveResultCursor<Object>> doReactiveQueryUsingCursor(
+			final String sql,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final boolean returnProxies,
+			final ResultTransformer forcedResultTransformer) {
+		final List<AfterLoadAction> afterLoadActions = new ArrayList<>();
+		return executeReactiveQueryStatement( sql, queryParameters, afterLoadActions, session,
+				(processedSql, parameterArray) -> ( (ReactiveConnectionSupplier) session ).getReactiveConnection()
+						.selectJdbcCursor( processedSql, parameterArray ) )
+				.thenApply( cursor -> new LoaderResultCursor( cursor, LoaderResultCursor.fetchSize( queryParameters, session ),
+						chunk -> reactiveProcessResultsAndInitializeNonLazyCollections(
+								() -> chunk,
+								session,
+								queryParameters,
+								returnProxies,
+								forcedResultTransformer,
+								afterLoadActions
+						)
+				) );
+	}
+
+	/**
+	 * Hydrate the rows of the {@link ResultSet} obtained from the given
+	 * supplier, and then initialize any non-lazy collections.
+	 */
+	default CompletionStage<List<Object>> reactiveProcessResultsAndInitializeNonLazyCollections(
+			final Supplier<CompletionStage<ResultSet>> resultSet,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final boolean returnProxies,
+			final ResultTransformer forcedResultTransformer,
+			final List<AfterLoadAction> afterLoadActions) {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
 		if ( queryParameters.isReadOnlyInitialized() ) {
@@ -64,18 +121,11 @@ default CompletionStage<List<Object>> doReactiveQueryAndInitializeNonLazyCollect
 		}
 		persistenceContext.beforeLoad();
 
-		final List<AfterLoadAction> afterLoadActions = new ArrayList<>();
-
-		return executeReactiveQueryStatement(
-				sql,
-				queryParameters,
-				afterLoadActions,
-				session
-		)
-				.thenCompose( resultSet -> {
-							discoverTypes( queryParameters, resultSet );
+		return resultSet.get()
+				.thenCompose( rs -> {
+							discoverTypes( queryParameters, rs );
 							return reactiveProcessResultSet(
-									resultSet,
+									rs,
 									queryParameters,
 									session,
 									returnProxies,
@@ -99,6 +149,40 @@ default CompletionStage<ResultSet> executeReactiveQueryStatement(
 			QueryParameters queryParameters,
 			List<AfterLoadAction> afterLoadActions,
 			SharedSessionContractImplementor session) {
+		final ReactiveConnection connection = ( (ReactiveConnectionSupplier) session ).getReactiveConnection();
+		return executeReactiveQueryStatement( sqlStatement, queryParameters, afterLoadActions, session,
+				isReadOnlyQuery( queryParameters, session )
+						? connection::selectJdbcReadOnly
+						: connection::selectJdbc );
+	}
+
+	/**
+	 * A query which doesn't lock rows, and which is either read-only,
+	 * executed by a session which is read-only by default, or executed
+	 * by a stateless session, may be sent to a read replica.
+	 *
+	 * @see ReactiveConnection#selectJdbcReadOnly(String, Object[])
+	 */
+	static boolean isReadOnlyQuery(QueryParameters queryParameters, SharedSessionContractImplementor session) {
+		final LockOptions lockOptions = queryParameters.getLockOptions();
+		if ( lockOptions != null
+				&& ( lockOptions.getLockMode().greaterThan( LockMode.READ ) || lockOptions.getAliasLockCount() > 0 ) ) {
+			return false;
+		}
+		return session instanceof StatelessSession
+				|| queryParameters.isReadOnly( session );
+	}
+
+	/**
+	 * Process the given SQL statement and its parameters, and pass them
+	 * to the given function to be executed.
+	 */
+	default <R> CompletionStage<R> executeReactiveQueryStatement(
+			String sqlStatement,
+			QueryParameters queryParameters,
+			List<AfterLoadAction> afterLoadActions,
+			SharedSessionContractImplementor session,
+			BiFunction<String, Object[], CompletionStage<R>> execution) {
 
 		// Processing query filters.
 		queryParameters.processFilters( sqlStatement, session );
@@ -124,8 +208,7 @@ else if ( LimitHelper.useLimit( limitHandler, queryParameters.getRowSelection()
 			sql = parameters().processLimit( sql, parameterArray, LimitHelper.hasFirstRow( queryParameters.getRowSelection() ) );
 		}
 
-		return ((ReactiveConnectionSupplier) session).getReactiveConnection()
-				.selectJdbc( sql, parameterArray );
+		return execution.apply( sql, parameterArray );
 	}
 
 	default LimitHandler limitHandler(RowSelection selection, SharedSessionContractImplementor session) {
@@ -21,6 +21,7 @@
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.Loadable;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor.ColumnLabels;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.util.impl.CompletionStages;
@@ -34,6 +35,7 @@
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.adaptor.impl.ResultSetAdaptor.reuseColumnLabels;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -46,6 +48,11 @@ public class ReactiveLoaderBasedResultSetProcessor implements ReactiveResultSetP
 
 	private final ReactiveLoaderBasedLoader loader;
 
+	// the column labels of the last result of the query,
+	// reused so that lookups by alias cost the same as
+	// lookups by position
+	private ColumnLabels columnLabels;
+
 	public ReactiveLoaderBasedResultSetProcessor(ReactiveLoaderBasedLoader loader) {
 		this.loader = loader;
 	}
@@ -63,6 +70,8 @@ public CompletionStage<List<Object>> reactiveExtractResults(
 			boolean readOnly,
 			ResultTransformer forcedResultTransformer,
 			List<AfterLoadAction> afterLoadActionList) throws SQLException {
+		columnLabels = reuseColumnLabels( rs, columnLabels );
+
 		final int entitySpan = loader.getEntityPersisters().length;
 		final RowSelection rowSelection = queryParameters.getRowSelection();
 		final int maxRows = LimitHelper.hasMaxRows( rowSelection ) ? rowSelection.getMaxRows() : Integer.MAX_VALUE;
@@ -0,0 +1,182 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.hibernate.QueryException;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor.ColumnLabels;
+import org.hibernate.reactive.pool.ReactiveConnection.Result;
+import org.hibernate.reactive.pool.ReactiveConnection.ResultRow;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+/**
+ * Maps the rows of a {@link Result} directly to the results of a
+ * projection query, that is, a query which returns only scalar values,
+ * either as tuples, or packaged in instances of some class via one of
+ * its constructors.
+ * <p>
+ * The rows are not adapted to a JDBC {@link java.sql.ResultSet}, and
+ * are not processed by the {@link org.hibernate.loader.Loader}. Instead,
+ * each column is read using the same typed getter of the Vert.x row
+ * that the {@link org.hibernate.reactive.adaptor.impl.ResultSetAdaptor}
+ * would use, and the constructor is called via a {@link MethodHandle}.
+ * Only the basic types which are read without any conversion by
+ * Hibernate are supported.
+ *
+ * @see #create(Type[], String[], Constructor)
+ */
+public final class RowProjection {
+
+	@FunctionalInterface
+	private interface ColumnReader {
+		Object read(ResultRow row, int column);
+	}
+
+	private static final Map<Type, ColumnReader> READERS = new HashMap<>();
+	static {
+		READERS.put( StandardBasicTypes.STRING, ResultRow::getString );
+		READERS.put( StandardBasicTypes.INTEGER, ResultRow::getInteger );
+		READERS.put( StandardBasicTypes.LONG, ResultRow::getLong );
+		READERS.put( StandardBasicTypes.SHORT, ResultRow::getShort );
+		READERS.put( StandardBasicTypes.FLOAT, ResultRow::getFloat );
+		READERS.put( StandardBasicTypes.DOUBLE, ResultRow::getDouble );
+		READERS.put( StandardBasicTypes.BIG_DECIMAL, ResultRow::getBigDecimal );
+	}
+
+	/**
+	 * The column indexes resolved for the column names of a previous
+	 * result of the same query, reused only for the very same list of
+	 * names.
+	 *
+	 * @see org.hibernate.reactive.adaptor.impl.ResultSetAdaptor#reuseColumnLabels
+	 */
+	private static final class ColumnIndexes {
+		private final List<String> names;
+		private final int[] indexes;
+
+		private ColumnIndexes(List<String> names, int[] indexes) {
+			this.names = names;
+			this.indexes = indexes;
+		}
+	}
+
+	private final String[] columnLabels;
+	private final ColumnReader[] readers;
+	private final Constructor<?> constructor;
+	private final MethodHandle instantiator;
+	private volatile ColumnIndexes columnIndexes;
+
+	private RowProjection(String[] columnLabels, ColumnReader[] readers, Constructor<?> constructor, MethodHandle instantiator) {
+		this.columnLabels = columnLabels;
+		this.readers = readers;
+		this.constructor = constructor;
+		this.instantiator = instantiator;
+	}
+
+	/**
+	 * Create a {@code RowProjection} for a query returning the given
+	 * columns.
+	 *
+	 * @param types the types of the columns
+	 * @param columnLabels the labels of the columns in the result
+	 * @param constructor the constructor to call with the values of the
+	 *                    columns, or {@code null} if the query returns
+	 *                    tuples
+	 *
+	 * @return the {@code RowProjection}, or {@code null} if the query
+	 *         results must be processed by the {@code Loader}
+	 */
+	public static RowProjection create(Type[] types, String[] columnLabels, Constructor<?> constructor) {
+		if ( types.length == 0 || types.length != columnLabels.length ) {
+			return null;
+		}
+		final ColumnReader[] readers = new ColumnReader[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			readers[i] = types[i] == null ? null : READERS.get( types[i] );
+			if ( readers[i] == null || columnLabels[i] == null ) {
+				return null;
+			}
+		}
+		if ( constructor == null ) {
+			return new RowProjection( columnLabels, readers, null, null );
+		}
+		try {
+			final MethodHandle handle = MethodHandles.lookup().unreflectConstructor( constructor );
+			final MethodHandle instantiator = handle.asType( handle.type().generic() )
+					.asSpreader( Object[].class, types.length );
+			return new RowProjection( columnLabels, readers, constructor, instantiator );
+		}
+		catch (IllegalAccessException e) {
+			// let the Loader call the constructor reflectively
+			return null;
+		}
+	}
+
+	/**
+	 * Read the rows of the given result.
+	 *
+	 * @param result the result of the query
+	 * @param firstRow the number of rows to skip
+	 * @param maxRows the maximum number of rows to read
+	 *
+	 * @return the query results
+	 */
+	public List<Object> read(Result result, int firstRow, int maxRows) {
+		final int[] indexes = columnIndexes( result.getColumnNames() );
+		final List<Object> results = new ArrayList<>( Math.max( 0, Math.min( result.size() - firstRow, maxRows ) ) );
+		final int lastRow = maxRows > Integer.MAX_VALUE - firstRow ? Integer.MAX_VALUE : firstRow + maxRows;
+		final int[] rowNumber = { 0 };
+		result.forEachRow( row -> {
+			final int current = rowNumber[0]++;
+			if ( current >= firstRow && current < lastRow ) {
+				final Object[] values = new Object[readers.length];
+				for ( int i = 0; i < values.length; i++ ) {
+					values[i] = readers[i].read( row, indexes[i] );
+				}
+				results.add( instantiate( values ) );
+			}
+		} );
+		return results;
+	}
+
+	private Object instantiate(Object[] values) {
+		if ( instantiator == null ) {
+			return values.length == 1 ? values[0] : values;
+		}
+		try {
+			return (Object) instantiator.invokeExact( values );
+		}
+		catch (Throwable e) {
+			throw new QueryException( "could not instantiate class [" + constructor.getDeclaringClass().getName() + "] from tuple", e );
+		}
+	}
+
+	private int[] columnIndexes(List<String> names) {
+		final ColumnIndexes cached = columnIndexes;
+		if ( cached != null && cached.names == names ) {
+			return cached.indexes;
+		}
+		final ColumnLabels labels = new ColumnLabels( names );
+		final int[] indexes = new int[columnLabels.length];
+		for ( int i = 0; i < indexes.length; i++ ) {
+			indexes[i] = labels.indexOf( columnLabels[i] );
+			if ( indexes[i] < 0 ) {
+				throw new NoSuchElementException( "Column " + columnLabels[i] + " does not exist" );
+			}
+		}
+		columnIndexes = new ColumnIndexes( names, indexes );
+		return indexes;
+	}
+}
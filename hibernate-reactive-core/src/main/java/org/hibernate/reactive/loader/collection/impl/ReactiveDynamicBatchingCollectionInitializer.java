@@ -34,7 +34,7 @@
  *
  * @see org.hibernate.loader.collection.DynamicBatchingCollectionInitializerBuilder.DynamicBatchingCollectionLoader
  */
-class ReactiveDynamicBatchingCollectionInitializer extends ReactiveCollectionLoader {
+public class ReactiveDynamicBatchingCollectionInitializer extends ReactiveCollectionLoader {
 
 	private final String sqlTemplate;
 	private final String alias;
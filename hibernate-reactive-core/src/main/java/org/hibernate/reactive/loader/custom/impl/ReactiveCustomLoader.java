@@ -5,7 +5,7 @@
  */
 package org.hibernate.reactive.loader.custom.impl;
 
-import java.io.Serializable;
+import java.lang.reflect.Constructor;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -15,16 +15,16 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.QueryException;
-import org.hibernate.cache.spi.QueryKey;
-import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.custom.ConstructorReturn;
 import org.hibernate.loader.custom.CustomLoader;
 import org.hibernate.loader.custom.CustomQuery;
 import org.hibernate.loader.custom.Return;
+import org.hibernate.loader.custom.ScalarReturn;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.param.ParameterBinder;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -33,7 +33,9 @@
 import org.hibernate.reactive.loader.ReactiveLoaderBasedLoader;
 import org.hibernate.reactive.loader.ReactiveLoaderBasedResultSetProcessor;
 import org.hibernate.reactive.loader.ReactiveResultSetProcessor;
+import org.hibernate.reactive.loader.RowProjection;
 import org.hibernate.reactive.pool.impl.Parameters;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
@@ -76,11 +78,13 @@ public List<Return> getCustomQueryReturns() {
 
 	private final ReactiveResultSetProcessor resultSetProcessor;
 	private final Parameters parameters;
+	private final RowProjection projection;
 
 	public ReactiveCustomLoader(CustomQuery customQuery, SessionFactoryImplementor factory) {
 		super( new ProcessedCustomQuery( customQuery, Parameters.instance( factory.getJdbcServices().getDialect() ) ), factory);
 		this.resultSetProcessor = new ReactiveLoaderBasedResultSetProcessor( this );
 		this.parameters = Parameters.instance( factory.getJdbcServices().getDialect() );
+		this.projection = rowProjection( customQuery.getCustomQueryReturns() );
 	}
 
 	@Override
@@ -88,12 +92,81 @@ public Parameters parameters() {
 		return parameters;
 	}
 
+	/**
+	 * A native query which returns only scalar values with explicit
+	 * types, as tuples or via a {@link ConstructorReturn}, may be
+	 * executed without the {@code Loader}.
+	 */
+	private static RowProjection rowProjection(List<Return> returns) {
+		if ( returns.size() == 1 && returns.get( 0 ) instanceof ConstructorReturn ) {
+			final ConstructorReturn constructorReturn = (ConstructorReturn) returns.get( 0 );
+			final ScalarReturn[] scalars = constructorReturn.getScalars();
+			final Type[] types = new Type[scalars.length];
+			final String[] columnLabels = new String[scalars.length];
+			for ( int i = 0; i < scalars.length; i++ ) {
+				types[i] = scalars[i].getType();
+				columnLabels[i] = scalars[i].getColumnAlias();
+			}
+			final Constructor<?> constructor = resolveConstructor( constructorReturn.getTargetClass(), types );
+			return constructor == null ? null : RowProjection.create( types, columnLabels, constructor );
+		}
+		else {
+			final Type[] types = new Type[returns.size()];
+			final String[] columnLabels = new String[returns.size()];
+			for ( int i = 0; i < types.length; i++ ) {
+				if ( !( returns.get( i ) instanceof ScalarReturn ) ) {
+					return null;
+				}
+				final ScalarReturn scalar = (ScalarReturn) returns.get( i );
+				types[i] = scalar.getType();
+				columnLabels[i] = scalar.getColumnAlias();
+			}
+			return RowProjection.create( types, columnLabels, null );
+		}
+	}
+
+	/**
+	 * @see org.hibernate.loader.custom.ConstructorResultColumnProcessor
+	 */
+	private static Constructor<?> resolveConstructor(Class<?> targetClass, Type[] types) {
+		for ( Constructor<?> constructor : targetClass.getConstructors() ) {
+			final Class<?>[] argumentTypes = constructor.getParameterTypes();
+			if ( argumentTypes.length == types.length && areAssignmentCompatible( argumentTypes, types ) ) {
+				return constructor;
+			}
+		}
+		// let the Loader report the error
+		return null;
+	}
+
+	private static boolean areAssignmentCompatible(Class<?>[] argumentTypes, Type[] types) {
+		for ( int i = 0; i < argumentTypes.length; i++ ) {
+			if ( types[i] == null || !argumentTypes[i].isAssignableFrom( types[i].getReturnedClass() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public RowProjection rowProjection(QueryParameters queryParameters) {
+		return queryParameters.getResultTransformer() == null && !queryParameters.hasAutoDiscoverScalarTypes()
+				? projection
+				: null;
+	}
+
 	public CompletionStage<List<T>> reactiveList(
 			SharedSessionContractImplementor session,
 			QueryParameters queryParameters) throws HibernateException {
 		return reactiveListIgnoreQueryCache( getSQLString(), getQueryIdentifier(), session, queryParameters );
 	}
 
+	public CompletionStage<ReactiveResultCursor<T>> reactiveCursor(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) throws HibernateException {
+		return reactiveCursor( getSQLString(), session, queryParameters );
+	}
+
 	@Override
 	public List<Object> processResultSet(ResultSet resultSet,
 										 QueryParameters queryParameters,
@@ -129,16 +202,6 @@ public boolean[] includeInResultRow() {
 		return super.includeInResultRow();
 	}
 
-	@Override @SuppressWarnings("unchecked")
-	public List<Object> getReactiveResultFromQueryCache(SharedSessionContractImplementor session, QueryParameters queryParameters, Set<Serializable> querySpaces, Type[] resultTypes, QueryResultsCache queryCache, QueryKey key) {
-		return super.getResultFromQueryCache(session, queryParameters, querySpaces, resultTypes, queryCache, key);
-	}
-
-	@Override
-	public void putReactiveResultInQueryCache(SharedSessionContractImplementor session, QueryParameters queryParameters, Type[] resultTypes, QueryResultsCache queryCache, QueryKey key, List<Object> cachableList) {
-		super.putResultInQueryCache(session, queryParameters, resultTypes, queryCache, key, cachableList);
-	}
-
 	@Override
 	public ResultTransformer resolveResultTransformer(ResultTransformer resultTransformer) {
 		return super.resolveResultTransformer(resultTransformer);
@@ -33,7 +33,7 @@
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
-import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 
 /**
  * A {@link ReactiveBatchingEntityLoaderBuilder} that is enabled when
@@ -58,11 +58,11 @@ public CompletionStage<List<Object>> multiLoad(
 	}
 
 	private CompletionStage<List<Object>> performOrderedBatchLoad(
-			List<Serializable> idsInBatch,
+			Serializable[] idsInBatchArray,
 			LockOptions lockOptions,
 			OuterJoinLoadable persister,
 			SessionImplementor session) {
-		final int batchSize =  idsInBatch.size();
+		final int batchSize =  idsInBatchArray.length;
 		final ReactiveDynamicBatchingEntityLoader batchingLoader = new ReactiveDynamicBatchingEntityLoader(
 				persister,
 				batchSize,
@@ -71,11 +71,8 @@ private CompletionStage<List<Object>> performOrderedBatchLoad(
 				session.getLoadQueryInfluencers()
 		);
 
-		final Serializable[] idsInBatchArray = idsInBatch.toArray(new Serializable[0]);
 		QueryParameters qp = buildMultiLoadQueryParameters( persister, idsInBatchArray, lockOptions );
-		CompletionStage<List<Object>> result = batchingLoader.doEntityBatchFetch(session, qp, idsInBatchArray);
-		idsInBatch.clear();
-		return result;
+		return batchingLoader.doEntityBatchFetch(session, qp, idsInBatchArray);
 	}
 
 	private CompletionStage<List<Object>> performUnorderedMultiLoad(
@@ -180,33 +177,33 @@ private CompletionStage<List<Object>> performUnorderedMultiLoad(
 					);
 		}
 
-		CompletionStage<Void> stage = voidFuture();
-		//TODO: Trampoline this!
+		final List<Serializable[]> batches = new ArrayList<>();
 		int idPosition = 0;
 		while ( numberOfIdsLeft > 0 ) {
 			int batchSize =  Math.min( numberOfIdsLeft, maxBatchSize );
-			final ReactiveDynamicBatchingEntityLoader batchingLoader = new ReactiveDynamicBatchingEntityLoader(
-					persister,
-					batchSize,
-					lockOptions,
-					session.getFactory(),
-					session.getLoadQueryInfluencers()
-			);
-
 			Serializable[] idsInBatch = new Serializable[batchSize];
 			System.arraycopy( ids, idPosition, idsInBatch, 0, batchSize );
-
-			QueryParameters qp = buildMultiLoadQueryParameters( persister, idsInBatch, lockOptions );
-			CompletionStage<Void> fetch =
-					batchingLoader.doEntityBatchFetch(session, qp, idsInBatch)
-							.thenAccept(result::addAll);
-			stage = stage.thenCompose( v -> fetch );
+			batches.add( idsInBatch );
 
 			numberOfIdsLeft = numberOfIdsLeft - batchSize;
 			idPosition += batchSize;
 		}
 
-		return stage.thenApply( v -> result );
+		// the batches are loaded one after the other, since they
+		// all hydrate entities into the same persistence context
+		return loop( batches, idsInBatch -> {
+			final ReactiveDynamicBatchingEntityLoader batchingLoader = new ReactiveDynamicBatchingEntityLoader(
+					persister,
+					idsInBatch.length,
+					lockOptions,
+					session.getFactory(),
+					session.getLoadQueryInfluencers()
+			);
+			QueryParameters qp = buildMultiLoadQueryParameters( persister, idsInBatch, lockOptions );
+			return batchingLoader.doEntityBatchFetch(session, qp, idsInBatch)
+					.thenAccept(result::addAll);
+		} )
+				.thenApply( v -> result );
 	}
 
 	private static QueryParameters buildMultiLoadQueryParameters(
@@ -272,9 +269,8 @@ private CompletionStage<List<Object>> performOrderedMultiLoad(
 
 		final List<Serializable> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
+		final List<Serializable[]> batches = new ArrayList<>();
 
-		CompletionStage<?> stage = voidFuture();
-		//TODO: Trampoline this!
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Serializable id = ids[i];
 			final EntityKey entityKey = new EntityKey( id, persister );
@@ -331,8 +327,8 @@ private CompletionStage<List<Object>> performOrderedMultiLoad(
 			idsInBatch.add( ids[i] );
 
 			if ( idsInBatch.size() >= maxBatchSize ) {
-				CompletionStage<List<Object>> load = performOrderedBatchLoad(idsInBatch, lockOptions, persister, session);
-				stage = stage.thenCompose( v -> load );
+				batches.add( idsInBatch.toArray( new Serializable[0] ) );
+				idsInBatch.clear();
 			}
 
 			// Save the EntityKey instance for use later!
@@ -341,29 +337,31 @@ private CompletionStage<List<Object>> performOrderedMultiLoad(
 		}
 
 		if ( !idsInBatch.isEmpty() ) {
-			CompletionStage<List<Object>> load = performOrderedBatchLoad(idsInBatch, lockOptions, persister, session);
-			stage = stage.thenCompose( v -> load );
+			batches.add( idsInBatch.toArray( new Serializable[0] ) );
 		}
 
-		return stage.thenApply( v -> {
-			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			for ( Integer position : elementPositionsLoadedByBatch ) {
-				// the element value at this position in the result List should be
-				// the EntityKey for that entity; reuse it!
-				final EntityKey entityKey = (EntityKey) result.get( position );
-				Object entity = persistenceContext.getEntity( entityKey );
-				if ( entity != null && !loadOptions.isReturnOfDeletedEntitiesEnabled() ) {
-					// make sure it is not DELETED
-					final EntityEntry entry = persistenceContext.getEntry( entity );
-					if ( entry.getStatus() == Status.DELETED || entry.getStatus() == Status.GONE ) {
-						// the entity is locally deleted, and the options ask that we not return such entities...
-						entity = null;
+		// the batches are loaded one after the other, since they
+		// all hydrate entities into the same persistence context
+		return loop( batches, idsInBatch -> performOrderedBatchLoad( idsInBatch, lockOptions, persister, session ) )
+				.thenApply( v -> {
+					final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+					for ( Integer position : elementPositionsLoadedByBatch ) {
+						// the element value at this position in the result List should be
+						// the EntityKey for that entity; reuse it!
+						final EntityKey entityKey = (EntityKey) result.get( position );
+						Object entity = persistenceContext.getEntity( entityKey );
+						if ( entity != null && !loadOptions.isReturnOfDeletedEntitiesEnabled() ) {
+							// make sure it is not DELETED
+							final EntityEntry entry = persistenceContext.getEntry( entity );
+							if ( entry.getStatus() == Status.DELETED || entry.getStatus() == Status.GONE ) {
+								// the entity is locally deleted, and the options ask that we not return such entities...
+								entity = null;
+							}
+						}
+						result.set( position, entity );
 					}
-				}
-				result.set( position, entity );
-			}
-			return result;
-		});
+					return result;
+				});
 	}
 
 }
@@ -29,6 +29,7 @@
 import org.hibernate.loader.plan.spi.LoadPlan;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor.ColumnLabels;
 import org.hibernate.reactive.loader.ReactiveLoader;
 import org.hibernate.reactive.loader.ReactiveResultSetProcessor;
 import org.hibernate.reactive.loader.entity.ReactiveUniqueEntityLoader;
@@ -44,6 +45,7 @@
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.pretty.MessageHelper.infoString;
+import static org.hibernate.reactive.adaptor.impl.ResultSetAdaptor.reuseColumnLabels;
 import static org.hibernate.reactive.util.impl.CompletionStages.logSqlException;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
@@ -295,6 +297,9 @@ private static class ReactiveLoadPlanBasedResultSetProcessor extends ResultSetPr
 
 		private final ReactiveRowReader rowReader;
 
+		// the column labels of the last result of the query
+		private ColumnLabels columnLabels;
+
 		public ReactiveLoadPlanBasedResultSetProcessor(
 				LoadPlan loadPlan,
 				AliasResolutionContext aliasResolutionContext,
@@ -338,6 +343,8 @@ public CompletionStage<List<Object>> reactiveExtractResults(
 				ResultTransformer forcedResultTransformer,
 				List<AfterLoadAction> afterLoadActionList) throws SQLException {
 
+			columnLabels = reuseColumnLabels( resultSet, columnLabels );
+
 			handlePotentiallyEmptyCollectionRootReturns( queryParameters.getCollectionKeys(), resultSet, session );
 
 			final ResultSetProcessingContextImpl context = createResultSetProcessingContext(
@@ -7,8 +7,6 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.QueryException;
-import org.hibernate.cache.spi.QueryKey;
-import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.engine.spi.*;
 import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
@@ -21,7 +19,9 @@
 import org.hibernate.reactive.loader.CachingReactiveLoader;
 import org.hibernate.reactive.loader.ReactiveLoaderBasedResultSetProcessor;
 import org.hibernate.reactive.loader.ReactiveResultSetProcessor;
+import org.hibernate.reactive.loader.RowProjection;
 import org.hibernate.reactive.pool.impl.Parameters;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
@@ -43,6 +43,7 @@
 	private final SelectClause selectClause;
 	private final ReactiveResultSetProcessor resultSetProcessor;
 	private final Parameters parameters;
+	private final RowProjection projection;
 
 	public ReactiveQueryLoader(
 			QueryTranslatorImpl queryTranslator,
@@ -53,6 +54,7 @@ public ReactiveQueryLoader(
 		this.factory = factory;
 		this.parameters = Parameters.instance( factory.getJdbcServices().getDialect() );
 		this.selectClause = selectClause;
+		this.projection = rowProjection( selectClause );
 		this.resultSetProcessor = new ReactiveLoaderBasedResultSetProcessor( this ) {
 			public CompletionStage<List<Object>> reactiveExtractResults(ResultSet rs,
 																		SharedSessionContractImplementor session,
@@ -88,6 +90,35 @@ public Parameters parameters() {
 		return parameters;
 	}
 
+	/**
+	 * A query which selects only scalar values, as tuples or via
+	 * {@code select new}, and no entities or collections, may be
+	 * executed without the {@code Loader}.
+	 */
+	private RowProjection rowProjection(SelectClause selectClause) {
+		if ( !selectClause.isScalarSelect()
+				|| selectClause.isMap()
+				|| selectClause.isList()
+				|| getEntityPersisters().length > 0
+				|| getCollectionPersisters() != null && getCollectionPersisters().length > 0 ) {
+			return null;
+		}
+		final String[][] columnNames = selectClause.getColumnNames();
+		final String[] columnLabels = new String[columnNames.length];
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( columnNames[i] == null || columnNames[i].length != 1 ) {
+				return null;
+			}
+			columnLabels[i] = columnNames[i][0];
+		}
+		return RowProjection.create( selectClause.getQueryReturnTypes(), columnLabels, selectClause.getConstructor() );
+	}
+
+	@Override
+	public RowProjection rowProjection(QueryParameters queryParameters) {
+		return queryParameters.getResultTransformer() == null ? projection : null;
+	}
+
 	public CompletionStage<List<T>> reactiveList(
 			SharedSessionContractImplementor session,
 			QueryParameters queryParameters) throws HibernateException {
@@ -130,6 +161,20 @@ protected CompletionStage<List<T>> reactiveList(
 		}
 	}
 
+	/**
+	 * Execute the query using a database cursor, returning the results
+	 * one chunk at a time. The query cache is never used.
+	 */
+	public CompletionStage<ReactiveResultCursor<T>> reactiveCursor(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) throws HibernateException {
+		checkQuery( queryParameters );
+		String sql = hasFilters( session )
+				? getSQLString()
+				: parameters().process( getSQLString() );
+		return reactiveCursor( sql, session, queryParameters );
+	}
+
 	private static boolean hasFilters(SharedSessionContractImplementor session) {
 		return session.getLoadQueryInfluencers().hasEnabledFilters();
 	}
@@ -162,16 +207,6 @@ public boolean[] includeInResultRow() {
 		return super.includeInResultRow();
 	}
 
-	@Override @SuppressWarnings("unchecked")
-	public List<Object> getReactiveResultFromQueryCache(SharedSessionContractImplementor session, QueryParameters queryParameters, Set<Serializable> querySpaces, Type[] resultTypes, QueryResultsCache queryCache, QueryKey key) {
-		return super.getResultFromQueryCache(session, queryParameters, querySpaces, resultTypes, queryCache, key);
-	}
-
-	@Override
-	public void putReactiveResultInQueryCache(SharedSessionContractImplementor session, QueryParameters queryParameters, Type[] resultTypes, QueryResultsCache queryCache, QueryKey key, List<Object> cachableList) {
-		super.putResultInQueryCache(session, queryParameters, resultTypes, queryCache, key, cachableList);
-	}
-
 	@Override
 	public ResultTransformer resolveResultTransformer(ResultTransformer resultTransformer) {
 		return super.resolveResultTransformer(resultTransformer);
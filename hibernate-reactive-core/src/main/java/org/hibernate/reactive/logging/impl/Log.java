@@ -219,6 +219,41 @@ public interface Log extends BasicLogger {
 	@Message(id = 72, value= "Cannot update an uninitialized proxy. Make sure to fetch the value before trying to update it: %1$s")
 	HibernateException uninitializedProxyUpdate(Object entity);
 
+	@Message(id = 73, value = "Query results cannot be streamed using a cursor when the query fetches a collection: %1$s")
+	HibernateException cursorWithCollectionFetch(String query);
+
+	@Message(id = 74, value = "Query results cannot be streamed using a cursor when the query is polymorphic and results in [%2$s] split queries: %1$s")
+	HibernateException cursorWithSplitQueries(String query, int length);
+
+	@LogMessage(level = INFO)
+	@Message(id = 75, value = "SQL Client read replica URL [%1$s]")
+	void sqlClientReplicaUrl(String url);
+
+	@LogMessage(level = WARN)
+	@Message(id = 76, value = "Read replica [%1$s] taken out of rotation: %2$s")
+	void replicaOutOfRotation(String url, String reason);
+
+	@LogMessage(level = INFO)
+	@Message(id = 77, value = "Read replica [%1$s] back in rotation")
+	void replicaBackInRotation(String url);
+
+	@LogMessage(level = INFO)
+	@Message(id = 78, value = "Closing the connection pool of tenant [%1$s] which has been idle for %2$d ms")
+	void closingIdleTenantPool(String tenantId, long idleTime);
+
+	@Message(id = 79, value = "Unable to create a connection pool for tenant [%1$s]: all %2$d connections allowed by 'hibernate.vertx.pool.max_total_size' are allocated to tenants with connections in use")
+	HibernateException tenantConnectionBudgetExhausted(String tenantId, int maxTotalPoolSize);
+
+	@Message(id = 80, value = "Unable to determine the URL of the database for tenant [%1$s]: 'hibernate.vertx.pool.tenant_url_template' was not provided")
+	HibernateException noTenantUrlTemplate(String tenantId);
+
+	@LogMessage(level = WARN)
+	@Message(id = 81, value = "Optimizer '%1$s' is not supported by reactive identifier generators, using 'pooled-lo' instead")
+	void unsupportedOptimizer(String optimizer);
+
+	@Message(id = 82, value = "Number of generated identifiers [%1$d] does not match the number of inserted rows [%2$d]")
+	IllegalStateException unexpectedNumberOfGeneratedIdentifiers(int identifiers, int rows);
+
 	// Same method that exists in CoreMessageLogger
 	@LogMessage(level = WARN)
 	@Message(id = 104, value = "firstResult/maxResults specified with collection fetch; applying in memory!" )
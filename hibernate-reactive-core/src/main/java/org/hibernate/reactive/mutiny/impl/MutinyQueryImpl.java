@@ -5,6 +5,7 @@
  */
 package org.hibernate.reactive.mutiny.impl;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -76,6 +77,12 @@ public Mutiny.Query<R> setFirstResult(int firstResult) {
 		return this;
 	}
 
+	@Override
+	public Mutiny.Query<R> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
 	@Override
 	public int getFirstResult() {
 		return delegate.getFirstResult();
@@ -192,4 +199,15 @@ public Uni<List<R>> getResultList() {
 		return uni( delegate::getReactiveResultList );
 	}
 
+	@Override
+	public Multi<R> getResultStream() {
+		return uni( delegate::getReactiveResultCursor )
+				.onItem().transformToMulti( cursor -> Multi.createBy().repeating()
+						// a chunk is only read when the subscriber requests more items
+						.uni( () -> uni( cursor::next ) )
+						.whilst( results -> cursor.hasMore() )
+						.onItem().<R>disjoint()
+						.onTermination().call( () -> uni( cursor::close ) ) );
+	}
+
 }
@@ -7,6 +7,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -27,12 +28,14 @@
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.pool.ReactiveConnectionPoolStatistics;
 import org.hibernate.reactive.session.impl.ReactiveCriteriaBuilderImpl;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
 import org.hibernate.service.ServiceRegistry;
 
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
 import org.hibernate.stat.Statistics;
 
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
@@ -68,8 +71,48 @@ public MutinySessionFactoryImpl(SessionFactoryImpl delegate) {
 		contextKeyForStatelessSession = new BaseKey<>( Mutiny.StatelessSession.class, delegate.getUuid() );
 	}
 
+	/**
+	 * Obtain a {@link Uni} which, on subscription, runs the given supplier
+	 * in the {@link Context}, and emits the outcome of the stage it returns.
+	 * Since {@link Context#execute(Runnable)} runs the supplier inline when
+	 * we're already in a context, which is almost always the case, this
+	 * avoids the extra operator and dispatch of {@code runSubscriptionOn()}.
+	 * As with {@code Uni.createFrom().completionStage()}, cancelling the
+	 * subscription cancels the stage.
+	 */
 	<T> Uni<T> uni(Supplier<CompletionStage<T>> stageSupplier) {
-		return Uni.createFrom().completionStage(stageSupplier).runSubscriptionOn( context );
+		return Uni.createFrom().emitter( emitter -> context.execute( () -> emit( stageSupplier, emitter ) ) );
+	}
+
+	private static <T> void emit(Supplier<CompletionStage<T>> stageSupplier, UniEmitter<? super T> emitter) {
+		if ( emitter.isCancelled() ) {
+			return;
+		}
+		final CompletionStage<T> stage;
+		try {
+			stage = stageSupplier.get();
+		}
+		catch (Throwable throwable) {
+			emitter.fail( throwable );
+			return;
+		}
+		if ( stage == null ) {
+			emitter.fail( new NullPointerException( "The supplied CompletionStage is null" ) );
+			return;
+		}
+		emitter.onTermination( () -> {
+			if ( emitter.isCancelled() ) {
+				stage.toCompletableFuture().cancel( false );
+			}
+		} );
+		stage.whenComplete( (result, failure) -> {
+			if ( failure == null ) {
+				emitter.complete( result );
+			}
+			else {
+				emitter.fail( failure instanceof CompletionException ? failure.getCause() : failure );
+			}
+		} );
 	}
 
 	@Override
@@ -299,6 +342,11 @@ public Statistics getStatistics() {
 		return delegate.getStatistics();
 	}
 
+	@Override
+	public ReactiveConnectionPoolStatistics getConnectionPoolStatistics() {
+		return connectionPool.getStatistics();
+	}
+
 	@Override
 	public void close() {
 		delegate.close();
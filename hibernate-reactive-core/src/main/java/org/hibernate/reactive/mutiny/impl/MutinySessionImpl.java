@@ -28,6 +28,7 @@
 import javax.persistence.criteria.CriteriaUpdate;
 import javax.persistence.metamodel.Attribute;
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -78,6 +79,11 @@ public <T> Uni<T> unproxy(T association) {
 		return uni( () -> delegate.reactiveFetch(association, true) );
 	}
 
+	@Override
+	public <T> Uni<List<T>> fetchAll(Collection<T> associations) {
+		return uni( () -> delegate.reactiveFetchAll( associations, false ) );
+	}
+
 	@Override
 	public <T> T getReference(Class<T> entityClass, Object id) {
 		//it's important that this method does not hit the database!
@@ -5,6 +5,7 @@
  */
 package org.hibernate.reactive.mutiny.impl;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 import org.hibernate.LockMode;
@@ -129,6 +130,14 @@ public Uni<Void> insertAll(int batchSize, Object... entities) {
 		return uni( () -> delegate.reactiveInsertAll( batchSize, entities ) );
 	}
 
+	@Override
+	public Uni<Void> insertAll(int batchSize, Multi<?> entities) {
+		return entities.group().intoLists().of( batchSize )
+				// a batch is only requested once the previous one is inserted
+				.onItem().transformToUniAndConcatenate( batch -> insertAll( batchSize, batch.toArray() ) )
+				.onItem().ignoreAsUni();
+	}
+
 	@Override
 	public Uni<Void> delete(Object entity) {
 		return uni( () -> delegate.reactiveDelete( entity ) );
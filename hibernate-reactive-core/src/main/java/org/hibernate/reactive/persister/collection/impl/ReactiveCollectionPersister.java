@@ -46,4 +46,10 @@ public interface ReactiveCollectionPersister extends CollectionPersister {
 	 * Reactive version of {@link CollectionPersister#initialize(Serializable, SharedSessionContractImplementor)}
 	 */
 	CompletionStage<Void> reactiveInitialize(Serializable key, SharedSessionContractImplementor session);
+
+	/**
+	 * Initialize the collections with the given keys using a single
+	 * query with an IN list, whatever the batch size of the collection.
+	 */
+	CompletionStage<Void> reactiveInitialize(Serializable[] keys, SharedSessionContractImplementor session);
 }
@@ -12,6 +12,7 @@
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
@@ -22,6 +23,7 @@
 import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
 import org.hibernate.reactive.loader.collection.ReactiveCollectionInitializer;
 import org.hibernate.reactive.loader.collection.impl.ReactiveBatchingCollectionInitializerBuilder;
+import org.hibernate.reactive.loader.collection.impl.ReactiveDynamicBatchingCollectionInitializer;
 import org.hibernate.reactive.loader.collection.impl.ReactiveSubselectOneToManyLoader;
 import org.hibernate.reactive.pool.impl.Parameters;
 
@@ -42,6 +44,8 @@
 public class ReactiveOneToManyPersister extends OneToManyPersister
 		implements ReactiveAbstractCollectionPersister {
 
+	private volatile ReactiveDynamicBatchingCollectionInitializer batchInitializer;
+
 	private Parameters parameters() {
 		return Parameters.instance( getFactory().getJdbcServices().getDialect() );
 	}
@@ -58,6 +62,16 @@ public CompletionStage<Void> reactiveInitialize(Serializable key,
 		return getAppropriateInitializer( key, session ).reactiveInitialize( key, session );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveInitialize(Serializable[] keys,
+													SharedSessionContractImplementor session) {
+		if ( batchInitializer == null ) {
+			// built lazily, since most collections are never fetched this way
+			batchInitializer = new ReactiveDynamicBatchingCollectionInitializer( this, getFactory(), LoadQueryInfluencers.NONE );
+		}
+		return batchInitializer.doBatchedCollectionLoad( (SessionImplementor) session, keys, getKeyType() );
+	}
+
 	@Override
 	protected ReactiveCollectionInitializer createCollectionInitializer(LoadQueryInfluencers loadQueryInfluencers) {
 		return ReactiveBatchingCollectionInitializerBuilder.getBuilder( getFactory() )
@@ -10,6 +10,7 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -26,7 +27,9 @@
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.dialect.CockroachDB192Dialect;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
@@ -227,7 +230,7 @@ default CompletionStage<Serializable> insertReactive(Object[] fields, Object obj
 								session
 						)
 						.thenCompose(
-								id -> loop(
+								id -> getReactiveConnection( session ).pipeline(
 										1, span,
 										table -> insertReactive(
 												id,
@@ -249,7 +252,7 @@ default CompletionStage<Serializable> insertReactive(Object[] fields, Object obj
 								session
 						)
 						.thenCompose(
-								id -> loop(
+								id -> getReactiveConnection( session ).pipeline(
 										1, span,
 										table -> insertReactive(
 												id,
@@ -297,7 +300,7 @@ default CompletionStage<Void> insertReactive(
 					if ( delegate().getEntityMetamodel().isDynamicInsert() ) {
 						// For the case of dynamic-insert="true", we need to generate the INSERT SQL
 						boolean[] notNull = delegate().getPropertiesToInsert( fields );
-						return loop(
+						return getReactiveConnection( session ).pipeline(
 								0, span,
 								table -> insertReactive(
 										id,
@@ -311,7 +314,7 @@ default CompletionStage<Void> insertReactive(
 					}
 					else {
 						// For the case of dynamic-insert="false", use the static SQL
-						return loop(
+						return getReactiveConnection( session ).pipeline(
 								0, span,
 								table -> insertReactive(
 										id,
@@ -356,7 +359,7 @@ default CompletionStage<Void> insertReactive(
 		boolean useBatch = expectation.canBeBatched() && getIdentifierGenerator().supportsJdbcBatchInserts();
 //		final boolean callable = delegate.isInsertCallable( j );
 
-		Object[] params = PreparedStatementAdaptor.bind( insert -> {
+		Object[] params = PreparedStatementAdaptor.bind( parameters().parameterCount( sql ), insert -> {
 			boolean[][] insertable = delegate().getPropertyColumnInsertable();
 			int index = delegate().dehydrate( id, fields, notNull, insertable, j, insert, session, false );
 		} );
@@ -383,31 +386,93 @@ default CompletionStage<Serializable> insertReactive(
 			}
 		}
 
-		Object[] params = PreparedStatementAdaptor.bind( insert -> {
+		Object[] params = PreparedStatementAdaptor.bind( parameters().parameterCount( sql ), insert -> {
 			boolean[][] insertable = delegate().getPropertyColumnInsertable();
 			delegate().dehydrate( null, fields, notNull, insertable, 0, insert, session, false );
 		} );
 
-		Class<?> idClass = delegate().getIdentifierType().getReturnedClass();
-		if ( idClass.equals(Integer.class) || idClass.equals(Short.class) ) {
-			// since on MySQL we can only retrieve Long values, adjust to Long
-			// id will be cast back to the right type by castToIdentifierType()
-			idClass = Long.class;
-		}
 		return getReactiveConnection( session )
 				//Note: in ORM core there are other ways to fetch the generated identity:
 				//      getGeneratedKeys(), or an extra round select statement. But we
 				//      don't need these extra options.
-				.insertAndSelectIdentifier( sql, params, idClass, delegate().getIdentifierColumnNames()[0] )
-				.thenApply( generatedId -> {
-					log.debugf( "Natively generated identity: %s", generatedId );
-					if ( generatedId == null ) {
-						throw log.noNativelyGeneratedValueReturned();
+				.insertAndSelectIdentifier( sql, params, generatedIdentifierClass(), delegate().getIdentifierColumnNames()[0] )
+				.thenApply( this::castGeneratedIdentifier );
+	}
+
+	@Override
+	default boolean isIdentityInsertBatchable() {
+		// the 'returning' clause of the insert gives us
+		// the id of every row inserted by a batch
+		final Dialect dialect = getFactory().getJdbcServices().getDialect();
+		return ( dialect instanceof PostgreSQL81Dialect || dialect instanceof CockroachDB192Dialect )
+				&& delegate().getTableSpan() == 1
+				&& !delegate().getEntityMetamodel().isDynamicInsert();
+	}
+
+	@Override
+	default CompletionStage<List<Serializable>> insertReactive(
+			List<Object[]> fields,
+			List<Object> objects,
+			SharedSessionContractImplementor session) {
+		final List<Serializable> ids = new ArrayList<>( objects.size() );
+		if ( !isIdentityInsertBatchable() ) {
+			return loop( 0, objects.size(),
+						i -> insertReactive( fields.get( i ), objects.get( i ), session ).thenAccept( ids::add ) )
+					.thenApply( v -> ids );
+		}
+
+		// apply any pre-insert in-memory value generation
+		return loop( 0, objects.size(),
+					i -> reactivePreInsertInMemoryValueGeneration( fields.get( i ), objects.get( i ), session ) )
+				.thenCompose( v -> {
+					final String sql = delegate().getSQLIdentityInsertString();
+					final boolean[] notNull = delegate().getPropertyInsertability();
+					final List<Object[]> params = new ArrayList<>( fields.size() );
+					for ( Object[] state : fields ) {
+						if ( log.isTraceEnabled() ) {
+							log.tracev( "Inserting entity: {0}", infoString( delegate() ) );
+							if ( delegate().isVersioned() ) {
+								log.tracev( "Version: {0}", Versioning.getVersion( state, delegate() ) );
+							}
+						}
+						params.add( PreparedStatementAdaptor.bind( parameters().parameterCount( sql ), insert -> {
+							boolean[][] insertable = delegate().getPropertyColumnInsertable();
+							delegate().dehydrate( null, state, notNull, insertable, 0, insert, session, false );
+						} ) );
 					}
-					return castToIdentifierType( generatedId, this );
+					return getReactiveConnection( session )
+							.insertAndSelectIdentifiers( sql, params, generatedIdentifierClass(), delegate().getIdentifierColumnNames()[0] );
+				} )
+				.thenApply( generatedIds -> {
+					for ( Object generatedId : generatedIds ) {
+						ids.add( castGeneratedIdentifier( generatedId ) );
+					}
+					return ids;
 				} );
 	}
 
+	/**
+	 * The type we ask the database driver for when reading
+	 * an identifier generated by the database.
+	 */
+	default Class<?> generatedIdentifierClass() {
+		Class<?> idClass = delegate().getIdentifierType().getReturnedClass();
+		if ( idClass.equals(Integer.class) || idClass.equals(Short.class) ) {
+			// since on MySQL we can only retrieve Long values, adjust to Long
+			// id will be cast back to the right type by castToIdentifierType()
+			idClass = Long.class;
+		}
+		return idClass;
+	}
+
+	default Serializable castGeneratedIdentifier(Object generatedId) {
+		log.debugf( "Natively generated identity: %s", generatedId );
+		if ( generatedId == null ) {
+			throw log.noNativelyGeneratedValueReturned();
+		}
+		return castToIdentifierType( generatedId, this );
+	}
+
 	default CompletionStage<Void> deleteReactive(
 			Serializable id,
 			Object version,
@@ -440,7 +505,7 @@ default CompletionStage<Void> deleteReactive(
 		}
 
 		//Render the SQL query
-		Object[] params = PreparedStatementAdaptor.bind( delete -> {
+		Object[] params = PreparedStatementAdaptor.bind( parameters().parameterCount( sql ), delete -> {
 			int index = 1;
 
 			index += expectation.prepare( delete );
@@ -582,7 +647,7 @@ default CompletionStage<Boolean> updateReactive(
 			}
 		}
 
-		Object[] params = PreparedStatementAdaptor.bind( update -> {
+		Object[] params = PreparedStatementAdaptor.bind( parameters().parameterCount( sql ), update -> {
 			int index = 1;
 			index += expectation.prepare( update );
 
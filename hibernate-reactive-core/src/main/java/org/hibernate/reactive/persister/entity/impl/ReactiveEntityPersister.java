@@ -50,6 +50,25 @@ CompletionStage<Serializable> insertReactive(
 			Object object,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Insert the given instances, whose identifiers are generated by
+	 * the database, without blocking, returning the generated
+	 * identifiers in the same order as the instances.
+	 *
+	 * @see #insertReactive(Object[], Object, SharedSessionContractImplementor)
+	 * @see #isIdentityInsertBatchable()
+	 */
+	CompletionStage<List<Serializable>> insertReactive(
+			List<Object[]> fields,
+			List<Object> objects,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Can the inserts of instances whose identifiers are generated by
+	 * the database be sent to the database in a single batch?
+	 */
+	boolean isIdentityInsertBatchable();
+
 	/**
 	 * Delete the given instance without blocking.
 	 *
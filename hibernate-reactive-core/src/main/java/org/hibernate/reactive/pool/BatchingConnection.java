@@ -9,7 +9,9 @@
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.CompletionStage;
+import java.util.function.IntFunction;
 
 
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
@@ -21,6 +23,18 @@
  * SQL statements are delegated to a given {@link ReactiveConnection}
  * which only supports explicit batching using {@link #update(String, List)}.
  * <p>
+ * Batchable statements are grouped by their SQL text, so that a flush
+ * which interleaves statements for several tables still produces
+ * batches of a useful size. The batches are executed in the order in
+ * which they were started, and a statement is only added to a batch
+ * started before the batches of other tables if, according to the
+ * given {@link TableDependencies}, the rows it affects can't depend
+ * on, or be depended on by, the rows of those other tables. Otherwise,
+ * it starts a new batch. Only statements of the same kind, that is,
+ * only inserts, only updates, or only deletes, are ever grouped, and
+ * a statement of a different kind, or a statement which can't be
+ * batched, first executes all the pending batches.
+ * <p>
  * Note that in Hibernate core, the responsibilities of this class
  * are handled by {@link org.hibernate.engine.jdbc.spi.JdbcCoordinator}
  * and the {@link org.hibernate.engine.jdbc.batch.spi.Batch} interface.
@@ -31,16 +45,48 @@
  */
 public class BatchingConnection implements ReactiveConnection {
 
+	/**
+	 * Determines whether a statement may be executed ahead of the
+	 * statements for some other table.
+	 */
+	@FunctionalInterface
+	public interface TableDependencies {
+		/**
+		 * Used when nothing is known about the tables, so that
+		 * statements are never moved ahead of statements for
+		 * other tables.
+		 */
+		TableDependencies UNKNOWN = (table, referencedTable) -> true;
+
+		/**
+		 * @param table the name of a table, as it occurs in the SQL
+		 * @param referencedTable the name of another table, as it
+		 *                        occurs in the SQL
+		 *
+		 * @return {@code false} only if the rows of the first table
+		 *         can't possibly reference rows of the second table
+		 */
+		boolean mayReference(String table, String referencedTable);
+	}
+
 	private final ReactiveConnection delegate;
+	private final TableDependencies tableDependencies;
 	private int batchSize;
 
-	private String batchedSql;
-	private Expectation batchedExpectation;
-	private List<Object[]> batchParamValues;
+	/**
+	 * The pending batches, in order of execution
+	 */
+	private List<Batch> batches = new ArrayList<>();
+	private String batchedStatementKind;
 
 	public BatchingConnection(ReactiveConnection delegate, int batchSize) {
+		this( delegate, batchSize, TableDependencies.UNKNOWN );
+	}
+
+	public BatchingConnection(ReactiveConnection delegate, int batchSize, TableDependencies tableDependencies) {
 		this.delegate = delegate;
 		this.batchSize = batchSize;
+		this.tableDependencies = tableDependencies;
 	}
 
 	@Override
@@ -60,25 +106,13 @@ public CompletionStage<Void> executeBatch() {
 			return voidFuture();
 		}
 		else {
-			String sql = batchedSql;
-			Expectation expectation = batchedExpectation;
-			List<Object[]> paramValues = batchParamValues;
-			batchedSql = null;
-			batchParamValues = null;
-			batchedExpectation = null;
+			final List<Batch> pending = batches;
+			batches = new ArrayList<>();
+			batchedStatementKind = null;
 
-			if ( paramValues.size() == 1 ) {
-				return update( sql, paramValues.get( 0 ) )
-						.thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
-			}
-			else {
-				return update( sql, paramValues )
-						.thenAccept( rowCounts -> {
-							for ( int i = 0; i < rowCounts.length; i++ ) {
-								expectation.verifyOutcome( rowCounts[i], i, sql );
-							}
-						} );
-			}
+			// each batch only depends on batches which precede it,
+			// and the batches are sent in order, so pipeline them
+			return delegate.pipeline( 0, pending.size(), i -> pending.get( i ).execute( delegate ) );
 		}
 	}
 
@@ -86,36 +120,183 @@ public CompletionStage<Void> update(
 			String sql, Object[] paramValues,
 			boolean allowBatching, Expectation expectation) {
 		if ( allowBatching && batchSize > 0 ) {
-			if ( !hasBatch() ) {
-				newBatch( sql, paramValues, expectation );
-				return voidFuture();
+			final String statementKind = statementKind( sql );
+			if ( hasBatch() && !statementKind.equals( batchedStatementKind ) ) {
+				// statements of different kinds can't be reordered
+				CompletionStage<Void> lastBatches = executeBatch();
+				newBatch( sql, statementKind, paramValues, expectation );
+				return lastBatches;
 			}
 			else {
-				if ( batchedSql.equals( sql ) && batchParamValues.size() < batchSize ) {
-					batchParamValues.add( paramValues );
+				final Batch batch = batchFor( sql, statementKind );
+				if ( batch == null ) {
+					newBatch( sql, statementKind, paramValues, expectation );
 					return voidFuture();
 				}
 				else {
-					CompletionStage<Void> lastBatch = executeBatch();
-					newBatch( sql, paramValues, expectation );
-					return lastBatch;
+					batch.paramValues.add( paramValues );
+					// a batch can't be executed ahead of the batches
+					// which precede it, so execute all pending batches
+					return batch.paramValues.size() < batchSize
+							? voidFuture()
+							: executeBatch();
 				}
 			}
 		}
 		else {
-			return delegate.update( sql, paramValues, false, expectation );
+			return hasBatch() ?
+					executeBatch().thenCompose( v -> delegate.update( sql, paramValues, false, expectation ) ) :
+					delegate.update( sql, paramValues, false, expectation );
 		}
 	}
 
-	private void newBatch(String sql, Object[] paramValues, Expectation expectation) {
-		batchedSql = sql;
-		batchedExpectation = expectation;
-		batchParamValues = new ArrayList<>();
-		batchParamValues.add( paramValues );
+	/**
+	 * @return the pending batch for the given SQL, if the statement
+	 *         may be executed ahead of every batch started after it,
+	 *         or {@code null} if a new batch must be started
+	 */
+	private Batch batchFor(String sql, String statementKind) {
+		final String table = tableName( sql, statementKind );
+		for ( int i = batches.size() - 1; i >= 0; i-- ) {
+			final Batch batch = batches.get( i );
+			if ( batch.sql.equals( sql ) ) {
+				return batch;
+			}
+			else if ( !canMoveAhead( statementKind, batch.table, table ) ) {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Can a statement of the given kind, affecting the given table, be
+	 * executed ahead of a batch of statements affecting another table?
+	 * An insert can't be moved ahead of the insert of a row it might
+	 * reference, and a delete can't be moved ahead of the deletion of
+	 * a row which might reference the row it deletes.
+	 */
+	private boolean canMoveAhead(String statementKind, String batchTable, String table) {
+		if ( table == null || batchTable == null || table.equals( batchTable ) ) {
+			return false;
+		}
+		switch ( statementKind ) {
+			case "insert":
+				return !tableDependencies.mayReference( table, batchTable );
+			case "delete":
+				return !tableDependencies.mayReference( batchTable, table );
+			default:
+				return !tableDependencies.mayReference( table, batchTable )
+						&& !tableDependencies.mayReference( batchTable, table );
+		}
+	}
+
+	private void newBatch(String sql, String statementKind, Object[] paramValues, Expectation expectation) {
+		batches.add( new Batch( sql, tableName( sql, statementKind ), paramValues, expectation ) );
+		batchedStatementKind = statementKind;
 	}
 
 	private boolean hasBatch() {
-		return batchedSql != null;
+		return !batches.isEmpty();
+	}
+
+	/**
+	 * @return the first keyword of the given statement, if it's an
+	 *         insert, update, or delete, or the whole statement
+	 *         otherwise, so that other statements are never grouped
+	 */
+	private static String statementKind(String sql) {
+		final int start = skipWhitespace( sql, skipComment( sql ) );
+		final String keyword = sql.substring( start, endOfWord( sql, start ) ).toLowerCase( Locale.ROOT );
+		switch ( keyword ) {
+			case "insert":
+			case "update":
+			case "delete":
+				return keyword;
+			default:
+				return sql;
+		}
+	}
+
+	/**
+	 * @return the name of the table affected by the given insert,
+	 *         update, or delete statement, or {@code null} if it
+	 *         can't be determined
+	 */
+	private static String tableName(String sql, String statementKind) {
+		int start = skipWhitespace( sql, skipComment( sql ) ) + statementKind.length();
+		switch ( statementKind ) {
+			case "insert":
+			case "delete":
+				// skip the 'into' or 'from' keyword
+				start = skipWhitespace( sql, start );
+				start = endOfWord( sql, start );
+				break;
+			case "update":
+				break;
+			default:
+				return null;
+		}
+		start = skipWhitespace( sql, start );
+		int end = start;
+		while ( end < sql.length() && !Character.isWhitespace( sql.charAt( end ) ) && sql.charAt( end ) != '(' ) {
+			end++;
+		}
+		return end > start ? sql.substring( start, end ) : null;
+	}
+
+	// skip the comment added by hibernate.use_sql_comments
+	private static int skipComment(String sql) {
+		if ( sql.startsWith( "/*" ) ) {
+			final int endOfComment = sql.indexOf( "*/" );
+			if ( endOfComment > 0 ) {
+				return endOfComment + 2;
+			}
+		}
+		return 0;
+	}
+
+	private static int skipWhitespace(String sql, int start) {
+		while ( start < sql.length() && Character.isWhitespace( sql.charAt( start ) ) ) {
+			start++;
+		}
+		return start;
+	}
+
+	private static int endOfWord(String sql, int start) {
+		while ( start < sql.length() && Character.isLetter( sql.charAt( start ) ) ) {
+			start++;
+		}
+		return start;
+	}
+
+	private static class Batch {
+		private final String sql;
+		private final String table;
+		private final Expectation expectation;
+		private final List<Object[]> paramValues = new ArrayList<>();
+
+		private Batch(String sql, String table, Object[] paramValues, Expectation expectation) {
+			this.sql = sql;
+			this.table = table;
+			this.expectation = expectation;
+			this.paramValues.add( paramValues );
+		}
+
+		private CompletionStage<Void> execute(ReactiveConnection connection) {
+			if ( paramValues.size() == 1 ) {
+				return connection.update( sql, paramValues.get( 0 ) )
+						.thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
+			}
+			else {
+				return connection.update( sql, paramValues )
+						.thenAccept( rowCounts -> {
+							for ( int i = 0; i < rowCounts.length; i++ ) {
+								expectation.verifyOutcome( rowCounts[i], i, sql );
+							}
+						} );
+			}
+		}
 	}
 
 	public CompletionStage<Void> execute(String sql) {
@@ -155,6 +336,12 @@ public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Object[] par
 				: delegate.insertAndSelectIdentifier( sql, paramValues, idClass, idColumnName );
 	}
 
+	public <T> CompletionStage<List<T>> insertAndSelectIdentifiers(String sql, List<Object[]> paramValues, Class<T> idClass, String idColumnName) {
+		return hasBatch()
+				? executeBatch().thenCompose( v -> delegate.insertAndSelectIdentifiers( sql, paramValues, idClass, idColumnName ) )
+				: delegate.insertAndSelectIdentifiers( sql, paramValues, idClass, idColumnName );
+	}
+
 	public CompletionStage<ReactiveConnection.Result> select(String sql) {
 		return hasBatch() ?
 				executeBatch().thenCompose( v -> delegate.select( sql ) ) :
@@ -173,6 +360,36 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
 				delegate.selectJdbc( sql, paramValues );
 	}
 
+	@Override
+	public CompletionStage<ResultSet> selectJdbcReadOnly(String sql, Object[] paramValues) {
+		return hasBatch() ?
+				executeBatch().thenCompose( v -> delegate.selectJdbcReadOnly( sql, paramValues ) ) :
+				delegate.selectJdbcReadOnly( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection.Result> selectReadOnly(String sql, Object[] paramValues) {
+		return hasBatch() ?
+				executeBatch().thenCompose( v -> delegate.selectReadOnly( sql, paramValues ) ) :
+				delegate.selectReadOnly( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+		return hasBatch() ?
+				executeBatch().thenCompose( v -> delegate.selectJdbcCursor( sql, paramValues ) ) :
+				delegate.selectJdbcCursor( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Void> pipeline(int start, int end, IntFunction<CompletionStage<?>> operation) {
+		// statements added to the batch by the operations are
+		// still written in order, since batching happens eagerly
+		return hasBatch() ?
+				executeBatch().thenCompose( v -> delegate.pipeline( start, end, operation ) ) :
+				delegate.pipeline( start, end, operation );
+	}
+
 	@Override
 	public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
 		return delegate.selectJdbcOutsideTransaction( sql, paramValues );
@@ -7,10 +7,12 @@
 
 import org.hibernate.Incubating;
 
+import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.function.IntFunction;
 
 /**
  * Abstracts over reactive database connections, defining
@@ -23,6 +25,8 @@
  * This restriction might be relaxed in future, and is due to the
  * implementation of the {@code ProxyConnection} returned by
  * {@link org.hibernate.reactive.pool.impl.DefaultSqlClientPool#getProxyConnection()}.
+ * The exception is {@link #pipeline(int, int, IntFunction)}, which
+ * submits several independent operations at once.
  *
  * @see ReactiveConnectionPool
  */
@@ -57,6 +61,27 @@ interface Expectation {
 
 	CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues);
 
+	/**
+	 * Execute a query which only reads data. If there's no current
+	 * transaction, and the connection pool has a read replica in
+	 * rotation, the query may be sent to the replica instead of
+	 * being executed using this connection. Otherwise, this is the
+	 * same as {@link #selectJdbc(String, Object[])}.
+	 *
+	 * @param sql the query, which must not modify or lock any data
+	 * @param paramValues a non-null array of parameter values
+	 *
+	 * @return the CompletionStage<ResultSet> from executing the query.
+	 */
+	CompletionStage<ResultSet> selectJdbcReadOnly(String sql, Object[] paramValues);
+
+	/**
+	 * Execute a query which only reads data, possibly using a read
+	 * replica, as for {@link #selectJdbcReadOnly(String, Object[])},
+	 * but without adapting the rows to a JDBC {@link ResultSet}.
+	 */
+	CompletionStage<Result> selectReadOnly(String sql, Object[] paramValues);
+
 	/**
 	 * This method is intended to be used only for queries returning
 	 * a ResultSet that must be executed outside of any "current"
@@ -76,12 +101,128 @@ interface Expectation {
 
 	<T> CompletionStage<T> insertAndSelectIdentifier(String sql, Object[] paramValues, Class<T> idClass, String idColumnName);
 
+	/**
+	 * Execute the given insert statement once for each set of parameter
+	 * values, and return the generated identifiers, in the same order as
+	 * the parameter values. The statements are sent in a single batch
+	 * if the statement itself returns the identifier, for example, via
+	 * a {@code returning} clause.
+	 */
+	<T> CompletionStage<List<T>> insertAndSelectIdentifiers(String sql, List<Object[]> paramValues, Class<T> idClass, String idColumnName);
+
 	<T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass);
 
 	interface Result extends Iterator<Object[]> {
 		int size();
+
+		/**
+		 * @return the labels of the columns of the result
+		 */
+		List<String> getColumnNames();
+
+		/**
+		 * Visit each of the remaining rows, reading the column values
+		 * directly from the underlying row, instead of copying them to
+		 * a new array for each row, as {@link #next()} does.
+		 * <p>
+		 * The {@link ResultRow} passed to the visitor is only valid
+		 * during the call to {@link RowVisitor#visit(ResultRow)}, and
+		 * must not be retained.
+		 */
+		void forEachRow(RowVisitor visitor);
+	}
+
+	/**
+	 * Receives the rows of a {@link Result}.
+	 *
+	 * @see Result#forEachRow(RowVisitor)
+	 */
+	@FunctionalInterface
+	interface RowVisitor {
+		void visit(ResultRow row);
+	}
+
+	/**
+	 * A view of the current row of a {@link Result}, with typed
+	 * accessors for the column values, indexed from zero.
+	 */
+	interface ResultRow {
+		int size();
+
+		Object getValue(int column);
+
+		<T> T get(Class<T> type, int column);
+
+		Long getLong(int column);
+
+		Integer getInteger(int column);
+
+		String getString(int column);
+
+		Boolean getBoolean(int column);
+
+		Double getDouble(int column);
+
+		Short getShort(int column);
+
+		Float getFloat(int column);
+
+		BigDecimal getBigDecimal(int column);
 	}
 
+	/**
+	 * A database cursor over the rows returned by a query, allowing
+	 * the rows to be fetched incrementally, in chunks, instead of
+	 * being materialized all at once.
+	 * <p>
+	 * Some databases (for example, PostgreSQL) only support cursors
+	 * within a transaction.
+	 *
+	 * @see #selectJdbcCursor(String, Object[])
+	 */
+	interface Cursor {
+		/**
+		 * Fetch at most the given number of rows from the cursor.
+		 */
+		CompletionStage<ResultSet> read(int count);
+
+		/**
+		 * @return {@code true} if there may be more rows to read
+		 */
+		boolean hasMore();
+
+		/**
+		 * Release the cursor and the underlying prepared statement.
+		 */
+		CompletionStage<Void> close();
+	}
+
+	/**
+	 * Execute the given query using a {@link Cursor}, so that the
+	 * rows may be read incrementally.
+	 */
+	CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues);
+
+	/**
+	 * Perform the given independent operations, indexed from
+	 * {@code start} (inclusive) to {@code end} (exclusive), using this
+	 * connection. The operations are submitted in index order, but
+	 * each operation is submitted without waiting for the previous
+	 * operation to complete, so that, when the database client
+	 * supports pipelining (for example, PostgreSQL), the statements
+	 * are all in flight at once, saving a network round trip per
+	 * statement.
+	 * <p>
+	 * An operation must not depend on the result of another operation
+	 * in the same pipeline. An operation may only perform work using
+	 * this connection, and must not modify the state of a session, so
+	 * loading entities is never a suitable operation.
+	 *
+	 * @return a {@link CompletionStage} which completes when every
+	 *         operation has completed
+	 */
+	CompletionStage<Void> pipeline(int start, int end, IntFunction<CompletionStage<?>> operation);
+
 	CompletionStage<Void> beginTransaction();
 
 	CompletionStage<Void> commitTransaction();
@@ -70,4 +70,15 @@ public interface ReactiveConnectionPool extends Service {
 	 * instance from this getter.
 	 */
 	CompletionStage<Void> getCloseFuture();
+
+	/**
+	 * Obtain the {@link ReactiveConnectionPoolStatistics metrics}
+	 * collected by this pool.
+	 *
+	 * @return the statistics, or {@code null} if this pool does
+	 *         not collect statistics
+	 */
+	default ReactiveConnectionPoolStatistics getStatistics() {
+		return null;
+	}
 }
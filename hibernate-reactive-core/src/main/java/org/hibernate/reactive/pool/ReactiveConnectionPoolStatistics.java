@@ -0,0 +1,94 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import org.hibernate.Incubating;
+
+/**
+ * Metrics collected by a {@link ReactiveConnectionPool}, which
+ * help distinguish time spent waiting for a connection from time
+ * spent executing SQL.
+ * <p>
+ * The counters are updated without locking, and so a snapshot of
+ * several metrics is not necessarily consistent.
+ *
+ * @see ReactiveConnectionPool#getStatistics()
+ */
+@Incubating
+public interface ReactiveConnectionPoolStatistics {
+
+	/**
+	 * The number of connections successfully obtained from the pool.
+	 */
+	long getAcquireCount();
+
+	/**
+	 * The number of requests for a connection which failed, either
+	 * because the wait queue was full (see
+	 * {@link org.hibernate.reactive.provider.Settings#POOL_MAX_WAIT_QUEUE_SIZE}),
+	 * or because no connection could be made.
+	 */
+	long getAcquireFailureCount();
+
+	/**
+	 * The total time, in milliseconds, spent waiting for connections
+	 * which were successfully obtained.
+	 */
+	long getAcquireTimeTotal();
+
+	/**
+	 * The longest time, in milliseconds, spent waiting for a connection.
+	 */
+	long getAcquireTimeMax();
+
+	/**
+	 * The upper bounds, in milliseconds, of the buckets of the
+	 * histogram returned by {@link #getAcquireTimeHistogram()}.
+	 * The last bucket has no upper bound.
+	 */
+	long[] getAcquireTimeHistogramBounds();
+
+	/**
+	 * A histogram of the times spent waiting for a connection, with
+	 * one more element than {@link #getAcquireTimeHistogramBounds()}.
+	 */
+	long[] getAcquireTimeHistogram();
+
+	/**
+	 * The number of connections currently obtained from the pool and
+	 * not yet returned to it.
+	 */
+	long getConnectionsInUse();
+
+	/**
+	 * The number of requests for a connection which are currently
+	 * waiting for a connection.
+	 */
+	long getPendingAcquireCount();
+
+	/**
+	 * The number of connections returned to the pool.
+	 */
+	long getReleaseCount();
+
+	/**
+	 * The total time, in milliseconds, for which connections were
+	 * held before being returned to the pool.
+	 */
+	long getConnectionLifetimeTotal();
+
+	/**
+	 * The longest time, in milliseconds, for which a connection was
+	 * held before being returned to the pool.
+	 */
+	long getConnectionLifetimeMax();
+
+	/**
+	 * Reset all counters, except for the number of connections in use
+	 * and of pending requests.
+	 */
+	void clear();
+}
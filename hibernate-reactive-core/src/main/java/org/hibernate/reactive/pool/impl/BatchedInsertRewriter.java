@@ -0,0 +1,228 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Rewrites a batch of executions of a single-row insert statement as
+ * a few multi-row inserts of the form
+ * {@code insert into ... values (...), (...), ...}.
+ * <p>
+ * The MySQL protocol has no real batches, and so every execution in
+ * a batch is effectively a separate round trip to the database. This
+ * is the same rewrite performed by the {@code rewriteBatchedStatements}
+ * option of the MySQL JDBC driver.
+ * <p>
+ * The rows of the batch are split into chunks, so that no statement
+ * has more than the {@value #MAX_PARAMETERS} parameters allowed in a
+ * prepared statement, and so that the estimated size of the values of
+ * the parameters of a statement does not exceed the given maximum,
+ * which must not be larger than the {@code max_allowed_packet} of the
+ * server.
+ *
+ * @see org.hibernate.reactive.provider.Settings#REWRITE_BATCHED_INSERTS
+ */
+public class BatchedInsertRewriter {
+
+	/**
+	 * The maximum number of parameters of a prepared statement
+	 */
+	public static final int MAX_PARAMETERS = 65_535;
+
+	/**
+	 * The default maximum size of a statement, the default value of
+	 * {@code max_allowed_packet} in MySQL 5.7
+	 */
+	public static final int DEFAULT_MAX_STATEMENT_SIZE = 4 * 1024 * 1024;
+
+	// the estimated size of a value of fixed length, for example, a number
+	private static final int FIXED_VALUE_SIZE = 16;
+
+	private final int maxStatementSize;
+
+	public BatchedInsertRewriter(int maxStatementSize) {
+		this.maxStatementSize = maxStatementSize;
+	}
+
+	/**
+	 * A multi-row insert statement, inserting some of the rows of a batch
+	 */
+	public static class Chunk {
+		private final String sql;
+		private final Object[] parameters;
+		private final int rows;
+
+		private Chunk(String sql, Object[] parameters, int rows) {
+			this.sql = sql;
+			this.parameters = parameters;
+			this.rows = rows;
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		public Object[] getParameters() {
+			return parameters;
+		}
+
+		/**
+		 * @return the number of rows inserted by the statement
+		 */
+		public int getRows() {
+			return rows;
+		}
+
+		/**
+		 * Map the row count of the multi-row insert back to a row count
+		 * for each of its rows. If the statement didn't insert exactly
+		 * one row for each of its rows, we can't tell which rows were
+		 * affected.
+		 *
+		 * @param rowCount the row count of the multi-row insert
+		 * @param rowCounts the row counts of the rows of the batch
+		 * @param start the position of the first row of this chunk in the batch
+		 */
+		public void copyRowCounts(int rowCount, int[] rowCounts, int start) {
+			Arrays.fill( rowCounts, start, start + rows, rowCount == rows ? 1 : Statement.SUCCESS_NO_INFO );
+		}
+	}
+
+	/**
+	 * Rewrite the executions of the given statement with the given
+	 * values of the parameters as multi-row inserts.
+	 *
+	 * @return the multi-row inserts, in order, or {@code null} if
+	 *         the statement is not a simple single-row insert
+	 */
+	public List<Chunk> rewrite(String sql, List<Object[]> batchParamValues) {
+		final int valuesStart = valuesStart( sql );
+		if ( valuesStart < 0 ) {
+			return null;
+		}
+		final String row = sql.substring( valuesStart ).trim();
+		final int parameterCount = parameterCount( row );
+		for ( Object[] paramValues : batchParamValues ) {
+			if ( paramValues.length != parameterCount ) {
+				return null;
+			}
+		}
+		final int maxRows = parameterCount == 0 ? Integer.MAX_VALUE : MAX_PARAMETERS / parameterCount;
+		final String insert = sql.substring( 0, valuesStart );
+
+		final List<Chunk> chunks = new ArrayList<>();
+		int start = 0;
+		while ( start < batchParamValues.size() ) {
+			int end = start;
+			long size = insert.length();
+			do {
+				size += row.length() + 1 + size( batchParamValues.get( end ) );
+				end++;
+			}
+			while ( end < batchParamValues.size()
+					&& end - start < maxRows
+					&& size + row.length() + 1 + size( batchParamValues.get( end ) ) <= maxStatementSize );
+			chunks.add( chunk( insert, row, batchParamValues.subList( start, end ), parameterCount ) );
+			start = end;
+		}
+		return chunks;
+	}
+
+	private static Chunk chunk(String insert, String row, List<Object[]> rows, int parameterCount) {
+		final StringBuilder sql = new StringBuilder( insert.length() + rows.size() * ( row.length() + 1 ) );
+		sql.append( insert ).append( row );
+		final Object[] parameters = new Object[rows.size() * parameterCount];
+		for ( int i = 0; i < rows.size(); i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' ).append( row );
+			}
+			System.arraycopy( rows.get( i ), 0, parameters, i * parameterCount, parameterCount );
+		}
+		return new Chunk( sql.toString(), parameters, rows.size() );
+	}
+
+	/**
+	 * @return the position of the parenthesized row following the
+	 *         {@code values} keyword, if the given statement is an
+	 *         insert of a single row, or -1 otherwise
+	 */
+	static int valuesStart(String sql) {
+		final String lowerCase = sql.toLowerCase( Locale.ROOT );
+		// skip the comment added by hibernate.use_sql_comments
+		final int endOfComment = lowerCase.startsWith( "/*" ) ? lowerCase.indexOf( "*/" ) : -2;
+		if ( endOfComment == -1 || !lowerCase.substring( endOfComment + 2 ).trim().startsWith( "insert" ) ) {
+			return -1;
+		}
+		final int values = lowerCase.lastIndexOf( "values" );
+		if ( values < 0 ) {
+			return -1;
+		}
+		final String row = sql.substring( values + "values".length() ).trim();
+		// a quoted literal might contain anything, so don't even try
+		if ( !row.startsWith( "(" ) || row.indexOf( '\'' ) >= 0 || row.indexOf( '"' ) >= 0 ) {
+			return -1;
+		}
+		// the row must end the statement, so there's no
+		// 'on duplicate key update' clause, for example
+		int depth = 0;
+		for ( int i = 0; i < row.length(); i++ ) {
+			switch ( row.charAt( i ) ) {
+				case '(':
+					depth++;
+					break;
+				case ')':
+					depth--;
+					if ( depth == 0 && i != row.length() - 1 ) {
+						return -1;
+					}
+					break;
+				default:
+			}
+		}
+		return depth == 0 ? sql.indexOf( '(', values ) : -1;
+	}
+
+	private static int parameterCount(String row) {
+		int count = 0;
+		for ( int i = 0; i < row.length(); i++ ) {
+			if ( row.charAt( i ) == '?' ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return an upper bound on the number of bytes needed to send
+	 *         the given parameter values to the database
+	 */
+	private static long size(Object[] paramValues) {
+		long size = 0;
+		for ( Object value : paramValues ) {
+			if ( value instanceof CharSequence ) {
+				// at most three bytes per UTF-16 char in UTF-8
+				size += 3L * ( (CharSequence) value ).length();
+			}
+			else if ( value instanceof byte[] ) {
+				size += ( (byte[]) value ).length;
+			}
+			else if ( value instanceof Buffer ) {
+				size += ( (Buffer) value ).length();
+			}
+			else {
+				size += FIXED_VALUE_SIZE;
+			}
+		}
+		return size;
+	}
+}
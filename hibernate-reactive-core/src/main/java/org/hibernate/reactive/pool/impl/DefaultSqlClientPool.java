@@ -109,6 +109,7 @@ public static VertxDriver findByClassName(String className) {
 	private Pool pools;
 	private SqlStatementLogger sqlStatementLogger;
 	private URI uri;
+	private BatchedInsertRewriter batchedInsertRewriter;
 	private ServiceRegistryImplementor serviceRegistry;
 
 	//Asynchronous shutdown promise: we can't return it from #close as we implement a
@@ -126,6 +127,18 @@ public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 	@Override
 	public void configure(Map configuration) {
 		uri = jdbcUrl( configuration );
+		if ( ConfigurationHelper.getBoolean( Settings.REWRITE_BATCHED_INSERTS, configuration, false )
+				&& isMySQL( uri ) ) {
+			batchedInsertRewriter = new BatchedInsertRewriter( ConfigurationHelper.getInt(
+					Settings.REWRITTEN_INSERT_MAX_SIZE,
+					configuration,
+					BatchedInsertRewriter.DEFAULT_MAX_STATEMENT_SIZE
+			) );
+		}
+	}
+
+	private static boolean isMySQL(URI uri) {
+		return "mysql".equalsIgnoreCase( uri.getScheme() ) || "mariadb".equalsIgnoreCase( uri.getScheme() );
 	}
 
 	@Override
@@ -150,6 +163,11 @@ protected SqlStatementLogger getSqlStatementLogger() {
 		return sqlStatementLogger;
 	}
 
+	@Override
+	protected BatchedInsertRewriter getBatchedInsertRewriter() {
+		return batchedInsertRewriter;
+	}
+
 	/**
 	 * Create a new {@link Pool} for the given JDBC URL or database URI,
 	 * using the {@link VertxInstance} service to obtain an instance of
@@ -0,0 +1,303 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * A pool of reactive connections which creates a separate Vert.x
+ * {@link Pool} for each tenant, the first time a connection for the
+ * tenant is requested. The URL of the database of a tenant is given
+ * by {@link Settings#TENANT_URL_TEMPLATE}, or by overriding
+ * {@link #tenantUri(String)}.
+ * <p>
+ * The total number of connections of all the pools, including the
+ * pool for connections with no tenant, may be limited by setting
+ * {@link Settings#MAX_TOTAL_POOL_SIZE}. When there isn't enough room
+ * for a new tenant pool, the least recently used pools of tenants with
+ * no connections in use are closed to make room, and if that's still
+ * not enough, the new pool is made smaller. A tenant pool which hasn't
+ * been used for {@link Settings#TENANT_POOL_IDLE_TIMEOUT} is closed.
+ * Pools are closed asynchronously, and the connections of a pool are
+ * counted against the total until it has been closed, so a request for
+ * a connection of a new tenant may have to wait for an evicted pool to
+ * close.
+ *
+ * @see Settings#MULTI_TENANT
+ */
+public class MultitenantSqlClientPool extends DefaultSqlClientPool {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final class TenantPool {
+		private final String tenantId;
+		private final Pool pool;
+		private final int size;
+		private int inUse;
+		private long lastUsed = System.nanoTime();
+
+		private TenantPool(String tenantId, Pool pool, int size) {
+			this.tenantId = tenantId;
+			this.pool = pool;
+			this.size = size;
+		}
+	}
+
+	// least recently used first, guarded by 'this'
+	private final LinkedHashMap<String, TenantPool> tenantPools = new LinkedHashMap<>( 16, 0.75f, true );
+	private final Map<Pool, TenantPool> tenantPoolsByPool = new IdentityHashMap<>();
+	private final List<CompletableFuture<Void>> closing = new ArrayList<>();
+	// the connections of open pools, and of pools which are being closed
+	private int allocated;
+	// the connections of pools which are being closed
+	private int releasing;
+
+	private String urlTemplate;
+	private int maxTotalSize;
+	private long idleTimeout;
+	private PoolOptions poolOptions;
+	private ServiceRegistryImplementor serviceRegistry;
+	private long evictionTimer = -1;
+
+	public MultitenantSqlClientPool() {}
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		super.injectServices( serviceRegistry );
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	public void configure(Map configuration) {
+		super.configure( configuration );
+		urlTemplate = ConfigurationHelper.getString( Settings.TENANT_URL_TEMPLATE, configuration );
+		maxTotalSize = ConfigurationHelper.getInt( Settings.MAX_TOTAL_POOL_SIZE, configuration, Integer.MAX_VALUE );
+		idleTimeout = TimeUnit.MILLISECONDS.toNanos(
+				ConfigurationHelper.getInt( Settings.TENANT_POOL_IDLE_TIMEOUT, configuration, 600_000 ) );
+	}
+
+	@Override
+	public void start() {
+		super.start();
+		if ( poolOptions == null ) {
+			poolOptions = serviceRegistry.getService( SqlClientPoolConfiguration.class ).poolOptions();
+			synchronized ( this ) {
+				// the pool for connections with no tenant
+				allocated = poolOptions.getMaxSize();
+			}
+			final long period = Math.max( 1000, TimeUnit.NANOSECONDS.toMillis( idleTimeout ) / 2 );
+			evictionTimer = vertx().setPeriodic( period, id -> closeIdleTenantPools() );
+		}
+	}
+
+	@Override
+	public void stop() {
+		if ( evictionTimer >= 0 ) {
+			vertx().cancelTimer( evictionTimer );
+			evictionTimer = -1;
+		}
+		synchronized ( this ) {
+			for ( TenantPool tenantPool : new ArrayList<>( tenantPools.values() ) ) {
+				close( tenantPool );
+			}
+		}
+		super.stop();
+	}
+
+	@Override
+	public CompletionStage<Void> getCloseFuture() {
+		final CompletableFuture<?>[] tenantsClosed;
+		synchronized ( this ) {
+			tenantsClosed = closing.toArray( new CompletableFuture<?>[0] );
+		}
+		return super.getCloseFuture()
+				.thenCombine( CompletableFuture.allOf( tenantsClosed ), (primary, tenants) -> null );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
+		return makeRoom( tenantId )
+				.thenCompose( v -> getTenantConnection( tenantId ) );
+	}
+
+	private CompletionStage<ReactiveConnection> getTenantConnection(String tenantId) {
+		final CompletionStage<ReactiveConnection> connection;
+		try {
+			connection = super.getConnection( tenantId );
+		}
+		catch (RuntimeException e) {
+			// the budget is exhausted, or the tenant has no URL
+			return failedFuture( e );
+		}
+		return connection
+				.whenComplete( (c, throwable) -> {
+					if ( throwable != null ) {
+						release( tenantId );
+					}
+				} );
+	}
+
+	/**
+	 * If there's no pool for the given tenant yet, close idle pools to
+	 * make room for one.
+	 *
+	 * @return a stage which completes when there's room for the pool,
+	 *         or when no more room can be made
+	 */
+	private synchronized CompletionStage<Void> makeRoom(String tenantId) {
+		final int wanted = poolOptions.getMaxSize();
+		if ( tenantPools.containsKey( tenantId ) ) {
+			return voidFuture();
+		}
+		closeLeastRecentlyUsedTenantPools( wanted );
+		if ( maxTotalSize - allocated >= wanted || closing.isEmpty() ) {
+			return voidFuture();
+		}
+		// wait for the evicted pools to give back their connections
+		return CompletableFuture.allOf( closing.toArray( new CompletableFuture<?>[0] ) )
+				.handle( (v, throwable) -> null );
+	}
+
+	@Override
+	protected synchronized Pool getTenantPool(String tenantId) {
+		TenantPool tenantPool = tenantPools.get( tenantId );
+		if ( tenantPool == null ) {
+			tenantPool = createTenantPool( tenantId );
+		}
+		tenantPool.inUse++;
+		tenantPool.lastUsed = System.nanoTime();
+		return tenantPool.pool;
+	}
+
+	@Override
+	protected synchronized void connectionReleased(Pool pool) {
+		final TenantPool tenantPool = tenantPoolsByPool.get( pool );
+		if ( tenantPool != null ) {
+			tenantPool.inUse--;
+			tenantPool.lastUsed = System.nanoTime();
+		}
+	}
+
+	private synchronized void release(String tenantId) {
+		final TenantPool tenantPool = tenantPools.get( tenantId );
+		if ( tenantPool != null ) {
+			tenantPool.inUse--;
+		}
+	}
+
+	/**
+	 * Determine the JDBC URL or database URI of the database of the
+	 * given tenant. By default, it's obtained from the template given
+	 * by {@link Settings#TENANT_URL_TEMPLATE}.
+	 *
+	 * @param tenantId the id of the tenant
+	 *
+	 * @return the URL as a {@link URI}
+	 */
+	protected URI tenantUri(String tenantId) {
+		if ( urlTemplate == null ) {
+			throw LOG.noTenantUrlTemplate( tenantId );
+		}
+		return parse( urlTemplate.replace( "{tenant}", tenantId ) );
+	}
+
+	private TenantPool createTenantPool(String tenantId) {
+		final int wanted = poolOptions.getMaxSize();
+		closeLeastRecentlyUsedTenantPools( wanted );
+		final int size = Math.min( wanted, maxTotalSize - allocated );
+		if ( size <= 0 ) {
+			throw LOG.tenantConnectionBudgetExhausted( tenantId, maxTotalSize );
+		}
+
+		final URI uri = tenantUri( tenantId );
+		final SqlClientPoolConfiguration configuration = serviceRegistry.getService( SqlClientPoolConfiguration.class );
+		final Pool pool = createPool( uri, configuration.connectOptions( uri ), new PoolOptions( poolOptions ).setMaxSize( size ), vertx() );
+		final TenantPool tenantPool = new TenantPool( tenantId, pool, size );
+		tenantPools.put( tenantId, tenantPool );
+		tenantPoolsByPool.put( pool, tenantPool );
+		allocated += size;
+		return tenantPool;
+	}
+
+	/**
+	 * Close the least recently used idle pools until, once they have
+	 * closed, there will be room for the given number of connections.
+	 */
+	private void closeLeastRecentlyUsedTenantPools(int wanted) {
+		final Iterator<TenantPool> iterator = tenantPools.values().iterator();
+		while ( maxTotalSize - allocated + releasing < wanted && iterator.hasNext() ) {
+			final TenantPool candidate = iterator.next();
+			if ( candidate.inUse == 0 ) {
+				iterator.remove();
+				close( candidate );
+			}
+		}
+	}
+
+	private synchronized void closeIdleTenantPools() {
+		final long now = System.nanoTime();
+		final Iterator<TenantPool> iterator = tenantPools.values().iterator();
+		while ( iterator.hasNext() ) {
+			final TenantPool tenantPool = iterator.next();
+			final long idleTime = now - tenantPool.lastUsed;
+			if ( tenantPool.inUse == 0 && idleTime > idleTimeout ) {
+				LOG.closingIdleTenantPool( tenantPool.tenantId, TimeUnit.NANOSECONDS.toMillis( idleTime ) );
+				iterator.remove();
+				close( tenantPool );
+			}
+		}
+	}
+
+	/**
+	 * Forget the given tenant pool and close it, without waiting for it
+	 * to be closed. Its connections are released from the total budget
+	 * once it has been closed.
+	 */
+	private void close(TenantPool tenantPool) {
+		tenantPools.remove( tenantPool.tenantId, tenantPool );
+		tenantPoolsByPool.remove( tenantPool.pool );
+		releasing += tenantPool.size;
+		final CompletableFuture<Void> closed = new CompletableFuture<>();
+		closing.add( closed );
+		tenantPool.pool.close().onComplete( result -> {
+			synchronized ( this ) {
+				closing.remove( closed );
+				releasing -= tenantPool.size;
+				allocated -= tenantPool.size;
+			}
+			closed.complete( null );
+		} );
+	}
+
+	private Vertx vertx() {
+		return serviceRegistry.getService( VertxInstance.class ).getVertx();
+	}
+}
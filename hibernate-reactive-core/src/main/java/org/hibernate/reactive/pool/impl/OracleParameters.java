@@ -16,7 +16,11 @@ public String process(String sql) {
 		if ( isProcessingNotRequired( sql ) ) {
 			return sql;
 		}
-		return new OracleParameters.Parser( sql ).result();
+		return cached( sql, OracleParameters::parse );
+	}
+
+	private static String parse(String sql) {
+		return new Parser( sql ).result();
 	}
 
 	/**
@@ -40,7 +44,13 @@ public String process(String sql, int parameterCount) {
 		if ( isProcessingNotRequired( sql ) ) {
 			return sql;
 		}
-		return new Parser( sql, parameterCount ).result();
+		// the parameter count is only a hint for the size of the result
+		return cached( sql, OracleParameters::parse );
+	}
+
+	@Override
+	protected int countParameters(String sql) {
+		return countPlaceholders( sql, ":", true );
 	}
 
 	private static class Parser {
@@ -5,19 +5,44 @@
  */
 package org.hibernate.reactive.pool.impl;
 
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
 import org.hibernate.dialect.CockroachDB192Dialect;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.PostgreSQL9Dialect;
 import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 
 /**
  * Some databases have a different parameter syntax, which
  * the Vert.x {@link io.vertx.sqlclient.SqlClient} does not abstract.
  * This class converts JDBC/ODBC-style {@code ?} parameters generated
  * by Hibernate ORM to the native format.
+ * <p>
+ * Since the same SQL strings are processed over and over, the
+ * processed SQL is kept in a bounded cache, keyed by the original
+ * SQL, and, for {@link #processLimit(String, Object[], boolean)},
+ * by the position of the limit and offset parameters. The number of
+ * parameters of processed SQL is also cached, so that the parameters
+ * of a statement can be bound to an array of just the right size.
  */
 public abstract class Parameters {
 
+	/**
+	 * The maximum number of processed SQL strings kept in the cache,
+	 * the same as the default size of the query plan cache
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 2048;
+
+	private final BoundedConcurrentHashMap<Object, Object> processedSql =
+			new BoundedConcurrentHashMap<>( DEFAULT_CACHE_SIZE, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+	private final BoundedConcurrentHashMap<String, Integer> parameterCounts =
+			new BoundedConcurrentHashMap<>( DEFAULT_CACHE_SIZE, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
 	private static final Parameters NO_PARSING = new Parameters() {
 		@Override
 		public String process(String sql) {
@@ -47,6 +72,127 @@ public static boolean isProcessingNotRequired(String sql) {
 				|| sql.indexOf('?') == -1;
 	}
 
+	/**
+	 * Obtain the result of processing the given key from the cache,
+	 * or compute it, using the given function, and cache it.
+	 */
+	@SuppressWarnings("unchecked")
+	protected <K, V> V cached(K key, Function<K, V> processor) {
+		Object processed = processedSql.get( key );
+		if ( processed == null ) {
+			misses.increment();
+			processed = processor.apply( key );
+			processedSql.put( key, processed );
+		}
+		else {
+			hits.increment();
+		}
+		return (V) processed;
+	}
+
+	/**
+	 * The number of parameters of the given SQL, which has already
+	 * been {@linkplain #process(String) processed}. The count is
+	 * cached, and so this is cheap for SQL strings which are
+	 * executed over and over.
+	 */
+	public int parameterCount(String sql) {
+		Integer count = parameterCounts.get( sql );
+		if ( count == null ) {
+			count = countParameters( sql );
+			parameterCounts.put( sql, count );
+		}
+		return count;
+	}
+
+	/**
+	 * Count the parameters of the given processed SQL.
+	 */
+	protected int countParameters(String sql) {
+		return countPlaceholders( sql, "?", false );
+	}
+
+	/**
+	 * Count the occurrences of the given parameter placeholder outside
+	 * string literals, where a numbered placeholder must be followed by
+	 * a digit.
+	 */
+	protected static int countPlaceholders(String sql, String placeholder, boolean numbered) {
+		int count = 0;
+		boolean inString = false;
+		for ( int i = 0; i < sql.length(); i++ ) {
+			final char c = sql.charAt( i );
+			if ( c == '\'' ) {
+				inString = !inString;
+			}
+			else if ( !inString && sql.startsWith( placeholder, i ) ) {
+				final int next = i + placeholder.length();
+				if ( !numbered || next < sql.length() && Character.isDigit( sql.charAt( next ) ) ) {
+					count++;
+				}
+				i = next - 1;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return the number of times processed SQL was found in the cache
+	 */
+	public long getCacheHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the number of times SQL had to be processed because it
+	 *         was not found in the cache
+	 */
+	public long getCacheMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the number of processed SQL strings currently cached
+	 */
+	public int getCacheSize() {
+		return processedSql.size();
+	}
+
+	/**
+	 * The key of a SQL string with limit and offset parameters, since
+	 * the processed SQL depends on the position of the parameters
+	 */
+	protected static final class LimitKey {
+		final String sql;
+		final int limitIndex;
+		final boolean hasOffset;
+
+		LimitKey(String sql, int limitIndex, boolean hasOffset) {
+			this.sql = sql;
+			this.limitIndex = limitIndex;
+			this.hasOffset = hasOffset;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof LimitKey ) ) {
+				return false;
+			}
+			LimitKey that = (LimitKey) o;
+			return limitIndex == that.limitIndex
+					&& hasOffset == that.hasOffset
+					&& sql.equals( that.sql );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( sql, limitIndex, hasOffset );
+		}
+	}
+
 	public abstract String process(String sql);
 
 	public abstract String process(String sql, int parameterCount);
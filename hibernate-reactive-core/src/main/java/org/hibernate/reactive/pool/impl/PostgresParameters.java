@@ -16,6 +16,10 @@ public String process(String sql) {
         if (isProcessingNotRequired(sql)) {
             return sql;
         }
+        return cached(sql, PostgresParameters::parse);
+    }
+
+    private static String parse(String sql) {
         return new Parser(sql).result();
     }
 
@@ -29,12 +33,18 @@ public String processLimit(String sql, Object[] parameterArray, boolean hasOffse
             return sql;
         }
 
-        // Replace 'limit ? offset ?' with the $ style parameters for PostgreSQL
         int index = hasOffset ? parameterArray.length - 1 : parameterArray.length;
+        return cached(new LimitKey(sql, index, hasOffset), PostgresParameters::parseLimit);
+    }
+
+    private static String parseLimit(LimitKey key) {
+        // Replace 'limit ? offset ?' with the $ style parameters for PostgreSQL
+        final String sql = key.sql;
+        int index = key.limitIndex;
         int pos = sql.indexOf(" limit ?");
         if (pos > -1) {
             String sqlProcessed = sql.substring(0, pos) + " limit $" + index++;
-            if (hasOffset) {
+            if (key.hasOffset) {
                 sqlProcessed += " offset $" + index;
             }
             return sqlProcessed;
@@ -51,7 +61,13 @@ public String process(String sql, int parameterCount) {
         if (isProcessingNotRequired(sql)) {
             return sql;
         }
-        return new Parser(sql, parameterCount).result();
+        // the parameter count is only a hint for the size of the result
+        return cached(sql, PostgresParameters::parse);
+    }
+
+    @Override
+    protected int countParameters(String sql) {
+        return countPlaceholders(sql, "$", true);
     }
 
     private static class Parser {
@@ -11,6 +11,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
@@ -114,6 +115,11 @@ public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Object[] par
 		return withConnection( conn -> conn.insertAndSelectIdentifier( sql, paramValues, idClass, idColumnName ) );
 	}
 
+	@Override
+	public <T> CompletionStage<List<T>> insertAndSelectIdentifiers(String sql, List<Object[]> paramValues, Class<T> idClass, String idColumnName) {
+		return withConnection( conn -> conn.insertAndSelectIdentifiers( sql, paramValues, idClass, idColumnName ) );
+	}
+
 	@Override
 	public CompletionStage<Result> select(String sql) {
 		return withConnection( conn -> conn.select( sql ) );
@@ -129,6 +135,21 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
 		return withConnection( conn -> conn.selectJdbc( sql, paramValues ) );
 	}
 
+	@Override
+	public CompletionStage<ResultSet> selectJdbcReadOnly(String sql, Object[] paramValues) {
+		return withConnection( conn -> conn.selectJdbcReadOnly( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Result> selectReadOnly(String sql, Object[] paramValues) {
+		return withConnection( conn -> conn.selectReadOnly( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+		return withConnection( conn -> conn.selectJdbcCursor( sql, paramValues ) );
+	}
+
 	@Override
 	public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
 		return withConnection( conn -> conn.selectJdbcOutsideTransaction( sql, paramValues ) );
@@ -139,6 +160,13 @@ public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues,
 		return withConnection( conn -> conn.selectIdentifier( sql, paramValues, idClass ) );
 	}
 
+	@Override
+	public CompletionStage<Void> pipeline(int start, int end, IntFunction<CompletionStage<?>> operation) {
+		// obtain the connection before submitting the operations,
+		// since we can't fetch the connection concurrently
+		return withConnection( conn -> conn.pipeline( start, end, operation ) );
+	}
+
 	@Override
 	public CompletionStage<Void> beginTransaction() {
 		return withConnection( ReactiveConnection::beginTransaction );
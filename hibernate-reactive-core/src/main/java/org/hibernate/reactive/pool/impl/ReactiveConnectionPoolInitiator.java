@@ -21,8 +21,9 @@
 /**
  * A Hibernate {@link StandardServiceInitiator service initiator} that
  * integrates our {@link ReactiveConnectionPool}. By default, the pool
- * implementation is {@link DefaultSqlClientPool}. A custom implementation may
- * be specified via {@link Settings#SQL_CLIENT_POOL}.
+ * implementation is {@link DefaultSqlClientPool}, or, if read replicas are
+ * specified via {@link Settings#REPLICA_URLS}, {@link ReplicaRoutingSqlClientPool}.
+ * A custom implementation may be specified via {@link Settings#SQL_CLIENT_POOL}.
  *
  * @see ReactiveConnectionPool
  * @see DefaultSqlClientPool
@@ -39,7 +40,12 @@ public ReactiveConnectionPoolInitiator() {}
 	public ReactiveConnectionPool initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
 		Object configValue = configurationValues.get( Settings.SQL_CLIENT_POOL );
 		if (configValue==null) {
-			return new DefaultSqlClientPool();
+			if ( configurationValues.get( Settings.TENANT_URL_TEMPLATE ) != null ) {
+				return new MultitenantSqlClientPool();
+			}
+			return configurationValues.get( Settings.REPLICA_URLS ) == null
+					? new DefaultSqlClientPool()
+					: new ReplicaRoutingSqlClientPool();
 		}
 
 		if ( configValue instanceof ReactiveConnectionPool ) {
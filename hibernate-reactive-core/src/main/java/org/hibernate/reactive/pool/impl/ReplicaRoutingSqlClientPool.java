@@ -0,0 +1,257 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.SqlConnection;
+
+/**
+ * A pool of reactive connections to a primary database, which sends
+ * read-only queries executed outside a transaction to read replicas
+ * of the database, listed by {@link Settings#REPLICA_URLS}. Writes,
+ * and every statement executed within a transaction, are executed
+ * using a connection to the primary database.
+ * <p>
+ * A query is read-only if it is executed by a read-only session, if
+ * it was explicitly marked read-only, or if it is executed by a
+ * stateless session, as long as it doesn't lock any rows.
+ * <p>
+ * Replicas are chosen according to {@link Settings#REPLICA_BALANCING}.
+ * A periodic health check takes a replica out of rotation when it
+ * can't be reached, or, if {@link Settings#REPLICA_LAG_QUERY} is
+ * specified, when its replication lag exceeds
+ * {@link Settings#REPLICA_MAX_LAG}. When no replica is in rotation,
+ * read-only queries are executed using the primary database.
+ * <p>
+ * This pool is used by default when {@link Settings#REPLICA_URLS}
+ * is specified.
+ *
+ * @see org.hibernate.reactive.pool.ReactiveConnection#selectJdbcReadOnly(String, Object[])
+ */
+public class ReplicaRoutingSqlClientPool extends DefaultSqlClientPool {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * The strategy for choosing a replica for a query.
+	 *
+	 * @see Settings#REPLICA_BALANCING
+	 */
+	public enum Balancing {
+		ROUND_ROBIN,
+		LEAST_OUTSTANDING;
+
+		static Balancing interpret(String setting) {
+			return setting == null
+					? ROUND_ROBIN
+					: valueOf( setting.trim().toUpperCase( Locale.ROOT ).replace( '-', '_' ) );
+		}
+	}
+
+	private static final class Replica {
+		private final String url;
+		private final Pool pool;
+		private final AtomicInteger outstanding = new AtomicInteger();
+		private volatile boolean inRotation = true;
+
+		private Replica(String url, Pool pool) {
+			this.url = url;
+			this.pool = pool;
+		}
+	}
+
+	private final List<Replica> replicas = new ArrayList<>();
+	private final AtomicInteger next = new AtomicInteger();
+	private List<String> replicaUrls;
+	private Balancing balancing;
+	private int checkPeriod;
+	private String lagQuery;
+	private int maxLag;
+	private ServiceRegistryImplementor serviceRegistry;
+	private long checkTimer = -1;
+	private volatile CompletionStage<Void> replicasCloseFuture = CompletableFuture.completedFuture( null );
+
+	public ReplicaRoutingSqlClientPool() {}
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		super.injectServices( serviceRegistry );
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	public void configure(Map configuration) {
+		super.configure( configuration );
+		replicaUrls = replicaUrls( configuration );
+		balancing = Balancing.interpret( ConfigurationHelper.getString( Settings.REPLICA_BALANCING, configuration ) );
+		checkPeriod = ConfigurationHelper.getInt( Settings.REPLICA_CHECK_PERIOD, configuration, 5000 );
+		lagQuery = ConfigurationHelper.getString( Settings.REPLICA_LAG_QUERY, configuration );
+		maxLag = ConfigurationHelper.getInt( Settings.REPLICA_MAX_LAG, configuration, 1000 );
+	}
+
+	/**
+	 * Determine the JDBC URLs or database URIs of the read replicas
+	 * from the given configuration.
+	 *
+	 * @param configurationValues the configuration properties
+	 *
+	 * @return the URLs, which may be empty
+	 */
+	protected List<String> replicaUrls(Map<?,?> configurationValues) {
+		final List<String> urls = new ArrayList<>();
+		final String setting = ConfigurationHelper.getString( Settings.REPLICA_URLS, configurationValues );
+		if ( setting != null ) {
+			for ( String url : setting.split( "," ) ) {
+				if ( !url.trim().isEmpty() ) {
+					LOG.sqlClientReplicaUrl( url.trim() );
+					urls.add( url.trim() );
+				}
+			}
+		}
+		return urls;
+	}
+
+	@Override
+	public void start() {
+		super.start();
+		if ( replicas.isEmpty() ) {
+			for ( String url : replicaUrls ) {
+				URI uri = parse( url );
+				replicas.add( new Replica( url, createPool( uri ) ) );
+			}
+			if ( checkPeriod > 0 && !replicas.isEmpty() ) {
+				checkTimer = vertx().setPeriodic( checkPeriod, id -> checkReplicas() );
+			}
+		}
+	}
+
+	@Override
+	public void stop() {
+		if ( checkTimer >= 0 ) {
+			vertx().cancelTimer( checkTimer );
+			checkTimer = -1;
+		}
+		final CompletableFuture<?>[] closed = new CompletableFuture<?>[replicas.size()];
+		for ( int i = 0; i < closed.length; i++ ) {
+			closed[i] = replicas.get( i ).pool.close().toCompletionStage().toCompletableFuture();
+		}
+		replicasCloseFuture = CompletableFuture.allOf( closed );
+		super.stop();
+	}
+
+	@Override
+	public CompletionStage<Void> getCloseFuture() {
+		return super.getCloseFuture().thenCombine( replicasCloseFuture, (primary, replicas) -> null );
+	}
+
+	@Override
+	protected Pool getReplicaPool() {
+		final Replica replica = balancing == Balancing.LEAST_OUTSTANDING
+				? leastOutstandingReplica()
+				: nextReplica();
+		if ( replica == null ) {
+			return null;
+		}
+		replica.outstanding.incrementAndGet();
+		return replica.pool;
+	}
+
+	@Override
+	protected void releaseReplicaPool(Pool pool) {
+		for ( Replica replica : replicas ) {
+			if ( replica.pool == pool ) {
+				replica.outstanding.decrementAndGet();
+				return;
+			}
+		}
+	}
+
+	private Replica nextReplica() {
+		final int size = replicas.size();
+		if ( size == 0 ) {
+			return null;
+		}
+		final int start = Math.floorMod( next.getAndIncrement(), size );
+		for ( int i = 0; i < size; i++ ) {
+			final Replica replica = replicas.get( ( start + i ) % size );
+			if ( replica.inRotation ) {
+				return replica;
+			}
+		}
+		return null;
+	}
+
+	private Replica leastOutstandingReplica() {
+		Replica least = null;
+		for ( Replica replica : replicas ) {
+			if ( replica.inRotation
+					&& ( least == null || replica.outstanding.get() < least.outstanding.get() ) ) {
+				least = replica;
+			}
+		}
+		return least;
+	}
+
+	private void checkReplicas() {
+		for ( Replica replica : replicas ) {
+			check( replica ).onComplete( result -> {
+				if ( result.succeeded() ) {
+					if ( !replica.inRotation ) {
+						LOG.replicaBackInRotation( replica.url );
+						replica.inRotation = true;
+					}
+				}
+				else if ( replica.inRotation ) {
+					LOG.replicaOutOfRotation( replica.url, result.cause().getMessage() );
+					replica.inRotation = false;
+				}
+			} );
+		}
+	}
+
+	/**
+	 * Check that the given replica can be reached, and, if there's a
+	 * lag query, that its replication lag is acceptable. A query which
+	 * returns null is interpreted as a replica with no lag.
+	 */
+	private Future<Void> check(Replica replica) {
+		if ( lagQuery == null ) {
+			return replica.pool.getConnection().compose( SqlConnection::close );
+		}
+		return replica.pool.query( lagQuery ).execute().compose( rows -> {
+			final RowIterator<Row> iterator = rows.iterator();
+			final Object lag = iterator.hasNext() ? iterator.next().getValue( 0 ) : null;
+			return lag instanceof Number && ( (Number) lag ).longValue() > maxLag
+					? Future.failedFuture( "replication lag of " + lag + " ms exceeds " + maxLag + " ms" )
+					: Future.succeededFuture();
+		} );
+	}
+
+	private Vertx vertx() {
+		return serviceRegistry.getService( VertxInstance.class ).getVertx();
+	}
+}
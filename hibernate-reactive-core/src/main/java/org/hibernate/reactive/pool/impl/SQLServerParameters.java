@@ -19,6 +19,10 @@ public String process(String sql) {
         if (isProcessingNotRequired(sql)) {
             return sql;
         }
+        return cached(sql, SQLServerParameters::parse);
+    }
+
+    private static String parse(String sql) {
         return new Parser(sql).result();
     }
 
@@ -27,7 +31,8 @@ public String process(String sql, int parameterCount) {
         if (isProcessingNotRequired(sql)) {
             return sql;
         }
-        return new Parser(sql, parameterCount).result();
+        // the parameter count is only a hint for the size of the result
+        return cached(sql, SQLServerParameters::parse);
     }
 
     /* Offset and Fetch gets applied just before the execution of the query but because we know
@@ -40,8 +45,18 @@ public String processLimit(String sql, Object[] parameterArray, boolean hasOffse
             return sql;
         }
 
-        // Replace 'offset ? fetch next ? rows only' with the @P style parameters for Sql Server
         int index = hasOffset ? parameterArray.length - 1 : parameterArray.length;
+        ProcessedLimit processed = cached( new LimitKey( sql, index, hasOffset ), SQLServerParameters::parseLimit );
+        if ( processed.shiftValues ) {
+            shiftValues( parameterArray );
+        }
+        return processed.sql;
+    }
+
+    private static ProcessedLimit parseLimit(LimitKey key) {
+        // Replace 'offset ? fetch next ? rows only' with the @P style parameters for Sql Server
+        final String sql = key.sql;
+        int index = key.limitIndex;
         int pos = sql.indexOf( " offset " );
         if ( pos > -1 ) {
             // The dialect doesn't use a parameter if the offset is 0
@@ -52,16 +67,30 @@ public String processLimit(String sql, Object[] parameterArray, boolean hasOffse
             if ( sql.contains( " fetch next ?" ) ) {
                 sqlProcessed += " fetch next @P" + index + " rows only ";
             }
-            return sqlProcessed;
+            return new ProcessedLimit( sqlProcessed, false );
         }
         // Different Hibernate ORM versions may use different lowercase/uppercase letters
         if ( sql.toLowerCase( Locale.ROOT ).startsWith( "select top(?)" ) ) {
             // 13 is the length of the string "select top(?)"
             String sqlProcessed = "select top(@P" + index + ")" + sql.substring( 13 );
-            shiftValues( parameterArray );
-            return sqlProcessed;
+            return new ProcessedLimit( sqlProcessed, true );
+        }
+        return new ProcessedLimit( sql, false );
+    }
+
+    /**
+     * The processed SQL, and whether the limit parameter, which
+     * comes first in the SQL, must be moved to the front of the
+     * parameter values
+     */
+    private static class ProcessedLimit {
+        private final String sql;
+        private final boolean shiftValues;
+
+        private ProcessedLimit(String sql, boolean shiftValues) {
+            this.sql = sql;
+            this.shiftValues = shiftValues;
         }
-        return sql;
     }
 
     /**
@@ -73,6 +102,11 @@ private void shiftValues(Object[] parameterArray) {
         parameterArray[parameterArray.length - 1] = temp;
     }
 
+    @Override
+    protected int countParameters(String sql) {
+        return countPlaceholders( sql, "@P", true );
+    }
+
     private static class Parser {
 
         private boolean inString;
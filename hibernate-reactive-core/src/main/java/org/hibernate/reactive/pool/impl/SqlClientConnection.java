@@ -6,17 +6,20 @@
 package org.hibernate.reactive.pool.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.IntFunction;
 
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
-import org.hibernate.reactive.adaptor.impl.JdbcNull;
 import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
 import org.hibernate.reactive.exception.ConstraintViolationException;
 import org.hibernate.reactive.exception.VertxSqlClientException;
@@ -26,10 +29,13 @@
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
+import io.vertx.core.Future;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PrepareOptions;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.PreparedStatement;
 import io.vertx.sqlclient.PropertyKind;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowIterator;
@@ -40,7 +46,6 @@
 import io.vertx.sqlclient.Transaction;
 import io.vertx.sqlclient.Tuple;
 
-import static org.hibernate.reactive.util.impl.CompletionStages.rethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -58,123 +63,204 @@ public class SqlClientConnection implements ReactiveConnection {
 	private final SqlStatementLogger sqlStatementLogger;
 
 	private final Pool pool;
+	private final Pool origin;
+	private final SqlClientPool sqlClientPool;
 	private final SqlConnection connection;
+	private final long openedAt = System.nanoTime();
 	private Transaction transaction;
 
 	SqlClientConnection(SqlConnection connection, Pool pool,
 						SqlStatementLogger sqlStatementLogger) {
+		this( connection, pool, pool, null, sqlStatementLogger );
+	}
+
+	/**
+	 * @param pool the pool used for statements executed outside a transaction
+	 * @param origin the pool the connection was obtained from
+	 * @param sqlClientPool the pool which provides read replicas, and which
+	 *                      is notified when the connection is closed
+	 */
+	SqlClientConnection(SqlConnection connection, Pool pool, Pool origin, SqlClientPool sqlClientPool,
+						SqlStatementLogger sqlStatementLogger) {
 		this.pool = pool;
+		this.origin = origin;
+		this.sqlClientPool = sqlClientPool;
 		this.sqlStatementLogger = sqlStatementLogger;
 		this.connection = connection;
 	}
 
 	@Override
 	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
-		translateNulls( paramValues );
 		return update( sql, Tuple.wrap( paramValues ) );
 	}
 
 	@Override
 	public CompletionStage<int[]> update(String sql, List<Object[]> batchParamValues) {
+		final BatchedInsertRewriter rewriter = sqlClientPool == null ? null : sqlClientPool.getBatchedInsertRewriter();
+		if ( rewriter != null && batchParamValues.size() > 1 ) {
+			final List<BatchedInsertRewriter.Chunk> chunks = rewriter.rewrite( sql, batchParamValues );
+			if ( chunks != null ) {
+				return updateChunks( chunks, batchParamValues.size() );
+			}
+		}
 		final List<Tuple> tuples = new ArrayList<>( batchParamValues.size() );
 		for ( Object[] paramValues : batchParamValues ) {
-			translateNulls( paramValues );
 			tuples.add( Tuple.wrap( paramValues ) );
 		}
 		return updateBatch( sql, tuples );
 	}
 
+	/**
+	 * Execute the multi-row inserts which replace a batch of inserts,
+	 * in order, and map their row counts back to the rows of the batch.
+	 */
+	private CompletionStage<int[]> updateChunks(List<BatchedInsertRewriter.Chunk> chunks, int batchSize) {
+		final int[] updateCounts = new int[batchSize];
+		final int[] start = { 0 };
+		return CompletionStages.loop( chunks, chunk -> update( chunk.getSql(), Tuple.wrap( chunk.getParameters() ) )
+						.thenAccept( rowCount -> {
+							chunk.copyRowCounts( rowCount, updateCounts, start[0] );
+							start[0] += chunk.getRows();
+						} ) )
+				.thenApply( v -> updateCounts );
+	}
+
 	@Override
 	public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
-		return update( sql, paramValues )
-				.thenAccept( rowCount -> expectation.verifyOutcome( rowCount,-1, sql ) );
+		return executeQuery( sql, Tuple.wrap( paramValues ) )
+				.<Void>map( rows -> {
+					expectation.verifyOutcome( rows.rowCount(), -1, sql );
+					return null;
+				} )
+				.toCompletionStage();
 	}
 
 	@Override
 	public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass) {
-		translateNulls( paramValues );
-		return preparedQuery( sql, Tuple.wrap( paramValues ) )
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) )
-				.thenApply( rowSet -> {
+		return executeQuery( sql, Tuple.wrap( paramValues ) )
+				.map( rowSet -> {
 					for (Row row: rowSet) {
 						return row.get(idClass, 0);
 					}
 					return null;
-				} );
+				} )
+				.toCompletionStage();
 	}
 
 	@Override
 	public CompletionStage<Result> select(String sql) {
-		return preparedQuery( sql )
-				.thenApply( RowSetResult::new );
+		return executeQuery( sql )
+				.<Result>map( RowSetResult::new )
+				.toCompletionStage();
 	}
 
 	@Override
 	public CompletionStage<Result> select(String sql, Object[] paramValues) {
-		translateNulls( paramValues );
-		return preparedQuery( sql, Tuple.wrap( paramValues ) )
-				.thenApply( RowSetResult::new );
+		return executeQuery( sql, Tuple.wrap( paramValues ) )
+				.<Result>map( RowSetResult::new )
+				.toCompletionStage();
 	}
 
 	@Override
 	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
-		translateNulls( paramValues );
-		return preparedQuery( sql, Tuple.wrap( paramValues ) )
-				.thenApply( ResultSetAdaptor::new );
+		return executeQuery( sql, Tuple.wrap( paramValues ) )
+				.<ResultSet>map( ResultSetAdaptor::new )
+				.toCompletionStage();
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbcReadOnly(String sql, Object[] paramValues) {
+		return executeQueryReadOnly( sql, Tuple.wrap( paramValues ) )
+				.<ResultSet>map( ResultSetAdaptor::new )
+				.toCompletionStage();
+	}
+
+	@Override
+	public CompletionStage<Result> selectReadOnly(String sql, Object[] paramValues) {
+		return executeQueryReadOnly( sql, Tuple.wrap( paramValues ) )
+				.<Result>map( RowSetResult::new )
+				.toCompletionStage();
+	}
+
+	private Future<RowSet<Row>> executeQueryReadOnly(String sql, Tuple parameters) {
+		// a query which is part of a transaction must see its writes
+		final Pool replica = transaction == null && sqlClientPool != null ? sqlClientPool.getReplicaPool() : null;
+		if ( replica == null ) {
+			return executeQuery( sql, parameters );
+		}
+		feedback( sql );
+		final Future<RowSet<Row>> rows = replica.preparedQuery( sql ).execute( parameters )
+				.onComplete( result -> sqlClientPool.releaseReplicaPool( replica ) );
+		return convertException( rows, sql );
+	}
+
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+		feedback( sql );
+		return convertException( connection.prepare( sql ), sql )
+				.<Cursor>map( statement -> new RowCursor( statement, statement.cursor( Tuple.wrap( paramValues ) ), sql ) )
+				.toCompletionStage();
 	}
 
 	@Override
 	public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
-		return preparedQueryOutsideTransaction( sql, Tuple.wrap( paramValues ) )
-				.thenApply(ResultSetAdaptor::new);
+		return executeQueryOutsideTransaction( sql, Tuple.wrap( paramValues ) )
+				.<ResultSet>map( ResultSetAdaptor::new )
+				.toCompletionStage();
 	}
 
 	@Override
 	public CompletionStage<Void> execute(String sql) {
-		return preparedQuery( sql )
-				.thenCompose( CompletionStages::voidFuture );
+		return executeQuery( sql )
+				.<Void>mapEmpty()
+				.toCompletionStage();
 	}
 
 	@Override
 	public CompletionStage<Void> executeUnprepared(String sql) {
 		feedback( sql );
-		return client().query( sql ).execute().toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) )
-				.thenCompose( CompletionStages::voidFuture );
+		return convertException( client().query( sql ).execute(), sql )
+				.<Void>mapEmpty()
+				.toCompletionStage();
 	}
 
 	/**
 	 * Similar to {@link org.hibernate.exception.internal.SQLExceptionTypeDelegate#convert(SQLException, String, String)}
 	 */
-	private <T> T convertException(T rows, String sql, Throwable sqlException) {
-		if ( sqlException == null ) {
-			return rows;
-		}
-		if ( SQLIntegrityConstraintViolationException.class.isInstance( sqlException ) ) {
-			throw new ConstraintViolationException( "could not execute statement", (SQLException) sqlException, sql );
-		}
-		if ( SQLException.class.isInstance( sqlException ) ) {
-			throw new VertxSqlClientException( "could not execute statement", (SQLException) sqlException, sql );
-		}
-		return rethrow( sqlException );
+	private static <T> Future<T> convertException(Future<T> execution, String sql) {
+		return execution.recover( sqlException -> {
+			if ( SQLIntegrityConstraintViolationException.class.isInstance( sqlException ) ) {
+				return Future.failedFuture( new ConstraintViolationException( "could not execute statement", (SQLException) sqlException, sql ) );
+			}
+			if ( SQLException.class.isInstance( sqlException ) ) {
+				return Future.failedFuture( new VertxSqlClientException( "could not execute statement", (SQLException) sqlException, sql ) );
+			}
+			return Future.failedFuture( sqlException );
+		} );
 	}
 
 	@Override
 	public CompletionStage<Void> executeOutsideTransaction(String sql) {
-		return preparedQueryOutsideTransaction( sql ).thenApply( ignore -> null );
+		return executeQueryOutsideTransaction( sql, null )
+				.<Void>mapEmpty()
+				.toCompletionStage();
 	}
 
 	@Override
 	public CompletionStage<Integer> update(String sql) {
-		return preparedQuery( sql ).thenApply(SqlResult::rowCount);
+		return executeQuery( sql )
+				.map( SqlResult::rowCount )
+				.toCompletionStage();
 	}
 
 	public CompletionStage<Integer> update(String sql, Tuple parameters) {
-		return preparedQuery( sql, parameters ).thenApply(SqlResult::rowCount);
+		return executeQuery( sql, parameters )
+				.map( SqlResult::rowCount )
+				.toCompletionStage();
 	}
 
 	public CompletionStage<int[]> updateBatch(String sql, List<Tuple> parametersBatch) {
-		return preparedQueryBatch( sql, parametersBatch ).thenApply(result -> {
+		return executeQueryBatch( sql, parametersBatch ).map( result -> {
 
 			final int[] updateCounts = new int[ parametersBatch.size() ];
 
@@ -201,12 +287,11 @@ public CompletionStage<int[]> updateBatch(String sql, List<Tuple> parametersBatc
 			}
 
 			return updateCounts;
-		});
+		} ).toCompletionStage();
 	}
 
 	@Override
 	public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Object[] paramValues, Class<T> idClass, String idColumnName) {
-		translateNulls( paramValues );
 		return insertAndSelectIdentifier( sql, Tuple.wrap( paramValues ), idClass, idColumnName );
 	}
 
@@ -215,49 +300,89 @@ public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Tuple parame
 		JsonObject options = new JsonObject()
 				.put( "autoGeneratedKeysIndexes", new JsonArray().add( idColumnName ) );
 
-		return preparedQuery( sql, parameters, new PrepareOptions( options ) )
-				.thenApply( rows -> {
+		feedback( sql );
+		return convertException( client().preparedQuery( sql, new PrepareOptions( options ) ).execute( parameters ), sql )
+				.map( rows -> {
 					RowIterator<Row> iterator = rows.iterator();
 					return iterator.hasNext()
 							? iterator.next().get( idClass, 0 )
 							: getLastInsertedId( rows, idClass, idColumnName );
-				} );
+				} )
+				.toCompletionStage();
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> insertAndSelectIdentifiers(String sql, List<Object[]> batchParamValues, Class<T> idClass, String idColumnName) {
+		final List<Tuple> tuples = new ArrayList<>( batchParamValues.size() );
+		for ( Object[] paramValues : batchParamValues ) {
+			tuples.add( Tuple.wrap( paramValues ) );
+		}
+		return executeQueryBatch( sql, tuples ).map( result -> {
+			// every statement of the batch has its own result,
+			// containing the id returned by the statement
+			final List<T> ids = new ArrayList<>( tuples.size() );
+			for ( RowSet<Row> rows = result; rows != null; rows = rows.next() ) {
+				final RowIterator<Row> iterator = rows.iterator();
+				ids.add( iterator.hasNext()
+						? iterator.next().get( idClass, 0 )
+						: getLastInsertedId( rows, idClass, idColumnName ) );
+			}
+			if ( ids.size() != tuples.size() ) {
+				throw LOG.unexpectedNumberOfGeneratedIdentifiers( ids.size(), tuples.size() );
+			}
+			return ids;
+		} ).toCompletionStage();
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters) {
-		feedback( sql );
-		return client().preparedQuery( sql ).execute( parameters ).toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
+		return executeQuery( sql, parameters ).toCompletionStage();
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters, PrepareOptions options) {
 		feedback( sql );
-		return client().preparedQuery( sql, options ).execute( parameters ).toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
+		return convertException( client().preparedQuery( sql, options ).execute( parameters ), sql )
+				.toCompletionStage();
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryBatch(String sql, List<Tuple> parameters) {
-		feedback( sql );
-		return client().preparedQuery( sql ).executeBatch( parameters ).toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
+		return executeQueryBatch( sql, parameters ).toCompletionStage();
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql) {
-		feedback( sql );
-		return client().preparedQuery( sql ).execute().toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
+		return executeQuery( sql ).toCompletionStage();
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryOutsideTransaction(String sql) {
-		feedback( sql );
-		return pool.preparedQuery( sql ).execute().toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
+		return executeQueryOutsideTransaction( sql, null ).toCompletionStage();
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryOutsideTransaction(String sql, Tuple parameters) {
+		return executeQueryOutsideTransaction( sql, parameters ).toCompletionStage();
+	}
+
+	// The following methods compose the Vert.x Future returned by the
+	// client directly, so that a statement costs a single conversion
+	// to CompletionStage, done by the public method which executes it
+
+	private Future<RowSet<Row>> executeQuery(String sql) {
 		feedback( sql );
-		return pool.preparedQuery( sql ).execute( parameters ).toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
+		return convertException( client().preparedQuery( sql ).execute(), sql );
+	}
+
+	private Future<RowSet<Row>> executeQuery(String sql, Tuple parameters) {
+		feedback( sql );
+		return convertException( client().preparedQuery( sql ).execute( parameters ), sql );
+	}
+
+	private Future<RowSet<Row>> executeQueryBatch(String sql, List<Tuple> parameters) {
+		feedback( sql );
+		return convertException( client().preparedQuery( sql ).executeBatch( parameters ), sql );
+	}
+
+	private Future<RowSet<Row>> executeQueryOutsideTransaction(String sql, Tuple parameters) {
+		feedback( sql );
+		final PreparedQuery<RowSet<Row>> query = pool.preparedQuery( sql );
+		return convertException( parameters == null ? query.execute() : query.execute( parameters ), sql );
 	}
 
 	private void feedback(String sql) {
@@ -274,27 +399,58 @@ private SqlClient client() {
 		return connection;
 	}
 
+	/**
+	 * The Vert.x client queues commands submitted to a connection,
+	 * and sends them in order. If the client supports pipelining
+	 * (as the PostgreSQL client does, up to the pipelining limit
+	 * of the connection options), a command is sent before the
+	 * response to the previous command has been received.
+	 */
+	@Override
+	public CompletionStage<Void> pipeline(int start, int end, IntFunction<CompletionStage<?>> operation) {
+		if ( end - start <= 1 ) {
+			return start < end
+					? operation.apply( start ).thenCompose( CompletionStages::voidFuture )
+					: voidFuture();
+		}
+		final CompletableFuture<?>[] operations = new CompletableFuture<?>[end - start];
+		for ( int i = start; i < end; i++ ) {
+			operations[i - start] = operation.apply( i ).toCompletableFuture();
+		}
+		return CompletableFuture.allOf( operations );
+	}
+
 	@Override
 	public CompletionStage<Void> beginTransaction() {
-		return connection.begin().toCompletionStage()
-				.thenAccept( tx -> transaction = tx );
+		return connection.begin()
+				.<Void>map( tx -> {
+					transaction = tx;
+					return null;
+				} )
+				.toCompletionStage();
 	}
 
 	@Override
 	public CompletionStage<Void> commitTransaction() {
-		return transaction.commit().toCompletionStage()
-				.whenComplete( (v, x) -> transaction = null );
+		return transaction.commit()
+				.onComplete( result -> transaction = null )
+				.toCompletionStage();
 	}
 
 	@Override
 	public CompletionStage<Void> rollbackTransaction() {
-		return transaction.rollback().toCompletionStage()
-				.whenComplete( (v, x) -> transaction = null );
+		return transaction.rollback()
+				.onComplete( result -> transaction = null )
+				.toCompletionStage();
 	}
 
 	@Override
 	public CompletionStage<Void> close() {
-		return connection.close().toCompletionStage();
+		final Future<Void> close = connection.close();
+		return sqlClientPool == null
+				? close.toCompletionStage()
+				: close.onComplete( result -> sqlClientPool.released( origin, System.nanoTime() - openedAt ) )
+						.toCompletionStage();
 	}
 
 	@SuppressWarnings("unchecked")
@@ -327,6 +483,12 @@ public int size() {
 			return rowset.size();
 		}
 
+		@Override
+		public List<String> getColumnNames() {
+			final List<String> names = rowset.columnsNames();
+			return names == null ? Collections.emptyList() : names;
+		}
+
 		@Override
 		public boolean hasNext() {
 			return it.hasNext();
@@ -341,6 +503,107 @@ public Object[] next() {
 			}
 			return result;
 		}
+
+		@Override
+		public void forEachRow(RowVisitor visitor) {
+			// the same view is reused for every row
+			final RowView view = new RowView();
+			while ( it.hasNext() ) {
+				view.row = it.next();
+				visitor.visit( view );
+			}
+			view.row = null;
+		}
+	}
+
+	private static class RowView implements ResultRow {
+		private Row row;
+
+		@Override
+		public int size() {
+			return row.size();
+		}
+
+		@Override
+		public Object getValue(int column) {
+			return row.getValue( column );
+		}
+
+		@Override
+		public <T> T get(Class<T> type, int column) {
+			return row.get( type, column );
+		}
+
+		@Override
+		public Long getLong(int column) {
+			return row.getLong( column );
+		}
+
+		@Override
+		public Integer getInteger(int column) {
+			return row.getInteger( column );
+		}
+
+		@Override
+		public String getString(int column) {
+			return row.getString( column );
+		}
+
+		@Override
+		public Boolean getBoolean(int column) {
+			return row.getBoolean( column );
+		}
+
+		@Override
+		public Double getDouble(int column) {
+			return row.getDouble( column );
+		}
+
+		@Override
+		public Short getShort(int column) {
+			return row.getShort( column );
+		}
+
+		@Override
+		public Float getFloat(int column) {
+			return row.getFloat( column );
+		}
+
+		@Override
+		public BigDecimal getBigDecimal(int column) {
+			return row.getBigDecimal( column );
+		}
+	}
+
+	private class RowCursor implements Cursor {
+		private final PreparedStatement statement;
+		private final io.vertx.sqlclient.Cursor cursor;
+		private final String sql;
+
+		private RowCursor(PreparedStatement statement, io.vertx.sqlclient.Cursor cursor, String sql) {
+			this.statement = statement;
+			this.cursor = cursor;
+			this.sql = sql;
+		}
+
+		@Override
+		public CompletionStage<ResultSet> read(int count) {
+			return convertException( cursor.read( count ), sql )
+					.<ResultSet>map( ResultSetAdaptor::new )
+					.toCompletionStage();
+		}
+
+		@Override
+		public boolean hasMore() {
+			return cursor.hasMore();
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			return cursor.close()
+					.compose( v -> statement.close() )
+					.toCompletionStage();
+		}
 	}
 
 	@Override
@@ -355,13 +618,4 @@ public CompletionStage<Void> executeBatch() {
 		return voidFuture();
 	}
 
-	private static void translateNulls(Object[] paramValues) {
-		for (int i = 0; i < paramValues.length; i++) {
-			Object arg = paramValues[i];
-			if (arg instanceof JdbcNull) {
-				paramValues[i] = ((JdbcNull) arg).toNullValue();
-			}
-		}
-	}
-
 }
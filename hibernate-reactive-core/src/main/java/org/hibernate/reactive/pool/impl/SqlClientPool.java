@@ -34,6 +34,8 @@
  */
 public abstract class SqlClientPool implements ReactiveConnectionPool {
 
+	private final SqlClientPoolStatistics statistics = new SqlClientPoolStatistics();
+
 	/**
 	 * @return the underlying Vert.x {@link Pool} for the current context.
 	 */
@@ -61,6 +63,45 @@ protected Pool getTenantPool(String tenantId) {
 		throw new UnsupportedOperationException("multitenancy not supported by built-in SqlClientPool");
 	}
 
+	/**
+	 * Get a {@link Pool} for a read replica, to which a read-only query
+	 * executed outside a transaction may be sent. Every pool obtained
+	 * from this method is passed back to {@link #releaseReplicaPool(Pool)}
+	 * when the query completes.
+	 * <p>
+	 * By default, there are no replicas, and every query is executed
+	 * using the connection of the session.
+	 *
+	 * @return the {@link Pool} for a replica, or {@code null} if no
+	 *         replica is available
+	 *
+	 * @see ReactiveConnection#selectJdbcReadOnly(String, Object[])
+	 */
+	protected Pool getReplicaPool() {
+		return null;
+	}
+
+	/**
+	 * Called when a query sent to the given replica has completed.
+	 *
+	 * @param replica a {@link Pool} obtained from {@link #getReplicaPool()}
+	 */
+	protected void releaseReplicaPool(Pool replica) {
+	}
+
+	/**
+	 * Get the {@link BatchedInsertRewriter} used to rewrite batched
+	 * inserts as multi-row inserts.
+	 * <p>
+	 * By default, batched inserts are not rewritten.
+	 *
+	 * @return the rewriter, or {@code null} if batched inserts should
+	 *         not be rewritten
+	 */
+	protected BatchedInsertRewriter getBatchedInsertRewriter() {
+		return null;
+	}
+
 	@Override
 	public CompletionStage<ReactiveConnection> getConnection() {
 		return getConnectionFromPool( getPool() );
@@ -72,11 +113,48 @@ public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
 	}
 
 	private CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool) {
-		return pool.getConnection().toCompletionStage().thenApply( this::newConnection );
+		final long startTime = statistics.acquireStarted();
+		return pool.getConnection()
+				.onComplete( result -> {
+					if ( result.succeeded() ) {
+						statistics.acquireSucceeded( startTime );
+					}
+					else {
+						statistics.acquireFailed();
+					}
+				} )
+				.<ReactiveConnection>map( connection -> newConnection( connection, pool ) )
+				.toCompletionStage();
+	}
+
+	private SqlClientConnection newConnection(SqlConnection connection, Pool origin) {
+		// statements executed outside the transaction must go to the
+		// same database as the connection, which, for a tenant, isn't
+		// the database of the default pool
+		return new SqlClientConnection( connection, origin, origin, this, getSqlStatementLogger() );
 	}
 
-	private SqlClientConnection newConnection(SqlConnection connection) {
-		return new SqlClientConnection( connection, getPool(), getSqlStatementLogger() );
+	/**
+	 * Called by {@link SqlClientConnection#close()} once the connection
+	 * has been returned to the given {@link Pool}.
+	 */
+	void released(Pool pool, long lifetimeNanos) {
+		statistics.released( lifetimeNanos );
+		connectionReleased( pool );
+	}
+
+	/**
+	 * Called when a connection obtained from the given {@link Pool}
+	 * has been closed, and returned to the pool.
+	 *
+	 * @param pool the {@link Pool} the connection was obtained from
+	 */
+	protected void connectionReleased(Pool pool) {
+	}
+
+	@Override
+	public SqlClientPoolStatistics getStatistics() {
+		return statistics;
 	}
 
 	@Override
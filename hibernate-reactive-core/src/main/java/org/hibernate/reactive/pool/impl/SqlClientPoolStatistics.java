@@ -0,0 +1,180 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.reactive.pool.ReactiveConnectionPoolStatistics;
+
+/**
+ * The {@link ReactiveConnectionPoolStatistics} of a {@link SqlClientPool}.
+ * Counters are striped, using {@link LongAdder} and
+ * {@link LongAccumulator}, so that connections obtained on different
+ * event loops don't contend. Times are accumulated in nanoseconds,
+ * and only converted to milliseconds when read, so that short waits
+ * aren't lost to truncation.
+ */
+public final class SqlClientPoolStatistics implements ReactiveConnectionPoolStatistics {
+
+	private static final long[] BOUNDS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000 };
+	private static final long[] BOUNDS_NANOS = new long[BOUNDS.length];
+	static {
+		for ( int i = 0; i < BOUNDS.length; i++ ) {
+			BOUNDS_NANOS[i] = TimeUnit.MILLISECONDS.toNanos( BOUNDS[i] );
+		}
+	}
+
+	private final LongAdder acquired = new LongAdder();
+	private final LongAdder acquireFailures = new LongAdder();
+	private final LongAdder acquireTime = new LongAdder();
+	private final LongAccumulator acquireTimeMax = new LongAccumulator( Math::max, 0 );
+	private final LongAdder[] acquireTimeHistogram = new LongAdder[BOUNDS.length + 1];
+	private final LongAdder inUse = new LongAdder();
+	private final LongAdder pending = new LongAdder();
+	private final LongAdder released = new LongAdder();
+	private final LongAdder lifetime = new LongAdder();
+	private final LongAccumulator lifetimeMax = new LongAccumulator( Math::max, 0 );
+
+	SqlClientPoolStatistics() {
+		for ( int i = 0; i < acquireTimeHistogram.length; i++ ) {
+			acquireTimeHistogram[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Called when a connection is requested.
+	 *
+	 * @return the start time, to be passed back to
+	 *         {@link #acquireSucceeded(long)} or {@link #acquireFailed()}
+	 */
+	long acquireStarted() {
+		pending.increment();
+		return System.nanoTime();
+	}
+
+	void acquireSucceeded(long startTime) {
+		final long nanos = System.nanoTime() - startTime;
+		pending.decrement();
+		inUse.increment();
+		acquired.increment();
+		acquireTime.add( nanos );
+		acquireTimeMax.accumulate( nanos );
+		acquireTimeHistogram[bucket( nanos )].increment();
+	}
+
+	void acquireFailed() {
+		pending.decrement();
+		acquireFailures.increment();
+	}
+
+	void released(long lifetimeNanos) {
+		inUse.decrement();
+		released.increment();
+		lifetime.add( lifetimeNanos );
+		lifetimeMax.accumulate( lifetimeNanos );
+	}
+
+	private static int bucket(long nanos) {
+		int i = 0;
+		while ( i < BOUNDS_NANOS.length && nanos > BOUNDS_NANOS[i] ) {
+			i++;
+		}
+		return i;
+	}
+
+	@Override
+	public long getAcquireCount() {
+		return acquired.sum();
+	}
+
+	@Override
+	public long getAcquireFailureCount() {
+		return acquireFailures.sum();
+	}
+
+	@Override
+	public long getAcquireTimeTotal() {
+		return toMillis( acquireTime.sum() );
+	}
+
+	@Override
+	public long getAcquireTimeMax() {
+		return toMillis( acquireTimeMax.get() );
+	}
+
+	@Override
+	public long[] getAcquireTimeHistogramBounds() {
+		return BOUNDS.clone();
+	}
+
+	@Override
+	public long[] getAcquireTimeHistogram() {
+		final long[] histogram = new long[acquireTimeHistogram.length];
+		for ( int i = 0; i < histogram.length; i++ ) {
+			histogram[i] = acquireTimeHistogram[i].sum();
+		}
+		return histogram;
+	}
+
+	@Override
+	public long getConnectionsInUse() {
+		return inUse.sum();
+	}
+
+	@Override
+	public long getPendingAcquireCount() {
+		return pending.sum();
+	}
+
+	@Override
+	public long getReleaseCount() {
+		return released.sum();
+	}
+
+	@Override
+	public long getConnectionLifetimeTotal() {
+		return toMillis( lifetime.sum() );
+	}
+
+	@Override
+	public long getConnectionLifetimeMax() {
+		return toMillis( lifetimeMax.get() );
+	}
+
+	private static long toMillis(long nanos) {
+		return TimeUnit.NANOSECONDS.toMillis( nanos );
+	}
+
+	@Override
+	public void clear() {
+		acquired.reset();
+		acquireFailures.reset();
+		acquireTime.reset();
+		acquireTimeMax.reset();
+		for ( LongAdder bucket : acquireTimeHistogram ) {
+			bucket.reset();
+		}
+		released.reset();
+		lifetime.reset();
+		lifetimeMax.reset();
+	}
+
+	@Override
+	public String toString() {
+		return "SqlClientPoolStatistics["
+				+ "acquired=" + getAcquireCount()
+				+ ", acquireFailures=" + getAcquireFailureCount()
+				+ ", acquireTimeTotal=" + getAcquireTimeTotal()
+				+ ", acquireTimeMax=" + getAcquireTimeMax()
+				+ ", inUse=" + getConnectionsInUse()
+				+ ", pending=" + getPendingAcquireCount()
+				+ ", released=" + getReleaseCount()
+				+ ", lifetimeMax=" + getConnectionLifetimeMax()
+				+ "]";
+	}
+}
@@ -66,4 +66,110 @@ public interface Settings extends AvailableSettings {
 	 * Specifies a {@link org.hibernate.reactive.pool.ReactiveConnectionPool} class.
 	 */
 	String SQL_CLIENT_POOL = "hibernate.vertx.pool.class";
+
+	/**
+	 * A comma-separated list of JDBC URLs or database URIs of read
+	 * replicas of the database specified by {@link #URL}. Read-only
+	 * queries executed outside a transaction are sent to a replica.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.ReplicaRoutingSqlClientPool
+	 */
+	String REPLICA_URLS = "hibernate.vertx.pool.replica_urls";
+
+	/**
+	 * The strategy used to choose a read replica for a query, either
+	 * {@code round_robin} (the default), or {@code least_outstanding},
+	 * to choose the replica with the fewest queries in progress.
+	 */
+	String REPLICA_BALANCING = "hibernate.vertx.pool.replica_balancing";
+
+	/**
+	 * The period, in milliseconds, of the health check of the read
+	 * replicas, 5000 by default. A replica which fails the check is
+	 * taken out of rotation until it passes again. A value of zero
+	 * disables the check.
+	 */
+	String REPLICA_CHECK_PERIOD = "hibernate.vertx.pool.replica_check_period";
+
+	/**
+	 * A query which returns the replication lag of a read replica, in
+	 * milliseconds, executed by the health check. For example, for
+	 * PostgreSQL:
+	 * <pre>
+	 * select extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000
+	 * </pre>
+	 * If not specified, the health check only opens a connection.
+	 */
+	String REPLICA_LAG_QUERY = "hibernate.vertx.pool.replica_lag_query";
+
+	/**
+	 * The maximum replication lag, in milliseconds, of a read replica
+	 * in rotation, 1000 by default.
+	 *
+	 * @see #REPLICA_LAG_QUERY
+	 */
+	String REPLICA_MAX_LAG = "hibernate.vertx.pool.replica_max_lag";
+
+	/**
+	 * A template for the JDBC URL or database URI of the database of a
+	 * tenant, in which {@code {tenant}} is replaced with the tenant id.
+	 * For example:
+	 * <pre>
+	 * postgresql://localhost:5432/{tenant}?user=hreact&amp;password=hreact
+	 * </pre>
+	 *
+	 * @see org.hibernate.reactive.pool.impl.MultitenantSqlClientPool
+	 */
+	String TENANT_URL_TEMPLATE = "hibernate.vertx.pool.tenant_url_template";
+
+	/**
+	 * The maximum total number of connections of all the connection
+	 * pools, including the pools of every tenant. Unlimited by default.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.MultitenantSqlClientPool
+	 */
+	String MAX_TOTAL_POOL_SIZE = "hibernate.vertx.pool.max_total_size";
+
+	/**
+	 * The time, in milliseconds, after which the connection pool of a
+	 * tenant which hasn't been used is closed, 600000 by default.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.MultitenantSqlClientPool
+	 */
+	String TENANT_POOL_IDLE_TIMEOUT = "hibernate.vertx.pool.tenant_idle_timeout";
+
+	/**
+	 * When the number of ids left in a block allocated by a sequence or
+	 * table generator drops to this value, the next block is fetched in
+	 * the background. Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.id.impl.BlockingIdentifierGenerator
+	 */
+	String ID_BLOCK_LOW_WATER_MARK = "hibernate.reactive.id.block_low_water_mark";
+
+	/**
+	 * If set, each thread claims a stripe of this many ids at a time
+	 * from the block allocated by a sequence or table generator, and
+	 * allocates ids from its own stripe without contention. Ids are
+	 * then not allocated in order across threads. Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.id.impl.BlockingIdentifierGenerator
+	 */
+	String ID_BLOCK_STRIPE_SIZE = "hibernate.reactive.id.block_stripe_size";
+
+	/**
+	 * On MySQL and MariaDB, rewrite a batch of inserts into the same
+	 * table as a few multi-row inserts, like the JDBC driver option
+	 * {@code rewriteBatchedStatements}. Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.BatchedInsertRewriter
+	 */
+	String REWRITE_BATCHED_INSERTS = "hibernate.reactive.rewrite_batched_inserts";
+
+	/**
+	 * The maximum size, in bytes, of a multi-row insert produced by
+	 * {@link #REWRITE_BATCHED_INSERTS}. It must not be larger than the
+	 * {@code max_allowed_packet} of the server. Defaults to 4 MB.
+	 */
+	String REWRITTEN_INSERT_MAX_SIZE = "hibernate.reactive.rewritten_insert_max_size";
 }
@@ -21,6 +21,7 @@
 import org.hibernate.jmx.internal.JmxServiceInitiator;
 import org.hibernate.persister.internal.PersisterFactoryInitiator;
 import org.hibernate.property.access.internal.PropertyAccessStrategyResolverInitiator;
+import org.hibernate.reactive.cache.impl.ReactiveCacheAccessInitiator;
 import org.hibernate.reactive.context.impl.VertxContextInitiator;
 import org.hibernate.reactive.pool.impl.SqlClientPoolConfigurationInitiator;
 import org.hibernate.reactive.provider.service.NoJdbcMultiTenantConnectionProviderInitiator;
@@ -121,6 +122,9 @@ private static List<StandardServiceInitiator<?>> buildInitialServiceInitiatorLis
 
         serviceInitiators.add( RegionFactoryInitiator.INSTANCE );
 
+        //Exclusive to Hibernate Reactive:
+        serviceInitiators.add( ReactiveCacheAccessInitiator.INSTANCE );
+
         serviceInitiators.add( TransactionCoordinatorBuilderInitiator.INSTANCE );
 
         serviceInitiators.add( ManagedBeanRegistryInitiator.INSTANCE );
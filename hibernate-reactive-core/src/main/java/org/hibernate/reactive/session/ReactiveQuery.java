@@ -44,6 +44,14 @@
 
 	CompletionStage<R> getReactiveSingleResultOrNull();
 
+	/**
+	 * Execute the query using a database cursor, so that the results
+	 * may be read one chunk at a time.
+	 *
+	 * @see #setFetchSize(int)
+	 */
+	CompletionStage<ReactiveResultCursor<R>> getReactiveResultCursor();
+
 	CompletionStage<Integer> executeReactiveUpdate();
 
 	ReactiveQuery<R> setParameter(int position, Object value);
@@ -56,6 +64,8 @@
 
 	ReactiveQuery<R> setFirstResult(int firstResult);
 
+	ReactiveQuery<R> setFetchSize(int fetchSize);
+
 	int getMaxResults();
 
 	int getFirstResult();
@@ -39,6 +39,10 @@ public interface ReactiveQueryExecutor extends ReactiveConnectionSupplier {
 
 	<T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters);
 
+	<T> CompletionStage<ReactiveResultCursor<T>> reactiveCursor(String query, QueryParameters parameters);
+
+	<T> CompletionStage<ReactiveResultCursor<T>> reactiveCursor(NativeSQLQuerySpecification spec, QueryParameters parameters);
+
 	CompletionStage<Integer> executeReactiveUpdate(String expandedQuery, QueryParameters parameters);
 
 	CompletionStage<Integer> executeReactiveUpdate(NativeSQLQuerySpecification specification, QueryParameters parameters);
@@ -0,0 +1,93 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.hibernate.Incubating;
+
+import static java.util.Collections.emptyList;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * The results of a query executed using a database cursor. The
+ * rows are read and hydrated one chunk at a time, so that only
+ * the current chunk is held in memory.
+ * <p>
+ * An internal contract between the reactive session implementation
+ * and the {@link org.hibernate.reactive.stage.Stage.Query} and
+ * {@link org.hibernate.reactive.mutiny.Mutiny.Query} APIs.
+ *
+ * @see ReactiveQuery#getReactiveResultCursor()
+ */
+@Incubating
+public interface ReactiveResultCursor<R> {
+
+	/**
+	 * Read and hydrate the next chunk of results. The returned list
+	 * is empty if there are no more results.
+	 */
+	CompletionStage<List<R>> next();
+
+	/**
+	 * @return {@code true} if there may be more results to read
+	 */
+	boolean hasMore();
+
+	/**
+	 * Release the underlying database cursor.
+	 */
+	CompletionStage<Void> close();
+
+	/**
+	 * Obtain a cursor which applies the given function to each chunk
+	 * of results read by this cursor.
+	 */
+	default <T> ReactiveResultCursor<T> map(Function<List<R>, List<T>> function) {
+		final ReactiveResultCursor<R> cursor = this;
+		return new ReactiveResultCursor<T>() {
+			@Override
+			public CompletionStage<List<T>> next() {
+				return cursor.next().thenApply( function );
+			}
+
+			@Override
+			public boolean hasMore() {
+				return cursor.hasMore();
+			}
+
+			@Override
+			public CompletionStage<Void> close() {
+				return cursor.close();
+			}
+		};
+	}
+
+	/**
+	 * @return a cursor with no results
+	 */
+	static <R> ReactiveResultCursor<R> empty() {
+		return new ReactiveResultCursor<R>() {
+			@Override
+			public CompletionStage<List<R>> next() {
+				return completedFuture( emptyList() );
+			}
+
+			@Override
+			public boolean hasMore() {
+				return false;
+			}
+
+			@Override
+			public CompletionStage<Void> close() {
+				return voidFuture();
+			}
+		};
+	}
+}
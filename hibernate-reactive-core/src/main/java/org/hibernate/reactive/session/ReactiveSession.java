@@ -22,6 +22,7 @@
 import javax.persistence.EntityGraph;
 import javax.persistence.metamodel.Attribute;
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
@@ -50,6 +51,8 @@ public interface ReactiveSession extends ReactiveQueryExecutor {
 
 	<E,T> CompletionStage<T> reactiveFetch(E entity, Attribute<E,T> field);
 
+	<T> CompletionStage<List<T>> reactiveFetchAll(Collection<T> associations, boolean unproxy);
+
 	CompletionStage<Void> reactivePersist(Object entity);
 
 	CompletionStage<Void> reactivePersist(Object object, IdentitySet copiedAlready);
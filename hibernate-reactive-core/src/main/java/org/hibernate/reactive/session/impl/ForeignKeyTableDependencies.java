@@ -0,0 +1,76 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.mapping.ForeignKey;
+import org.hibernate.mapping.Table;
+import org.hibernate.reactive.pool.BatchingConnection;
+
+/**
+ * The {@link BatchingConnection.TableDependencies} implied by the
+ * foreign keys of the mapped tables. Tables are identified by their
+ * unqualified, unquoted names, ignoring case, so that tables with the
+ * same name in different schemas are treated as a single table.
+ */
+final class ForeignKeyTableDependencies implements BatchingConnection.TableDependencies {
+
+	private final Map<String, Set<String>> referencedTables = new HashMap<>();
+
+	ForeignKeyTableDependencies(Metadata metadata) {
+		for ( Table table : metadata.collectTableMappings() ) {
+			final Set<String> referenced = new HashSet<>();
+			boolean resolved = true;
+			for ( ForeignKey foreignKey : table.getForeignKeys().values() ) {
+				if ( foreignKey.getReferencedTable() == null ) {
+					resolved = false;
+				}
+				else {
+					referenced.add( normalize( foreignKey.getReferencedTable().getName() ) );
+				}
+			}
+			// a table with an unresolved foreign key is treated as unknown
+			if ( resolved ) {
+				referencedTables.computeIfAbsent( normalize( table.getName() ), name -> new HashSet<>() )
+						.addAll( referenced );
+			}
+		}
+	}
+
+	@Override
+	public boolean mayReference(String table, String referencedTable) {
+		final Set<String> referenced = referencedTables.get( normalize( table ) );
+		final String name = normalize( referencedTable );
+		// we must assume the worst about tables we know nothing about
+		return referenced == null
+				|| !referencedTables.containsKey( name )
+				|| referenced.contains( name );
+	}
+
+	private static String normalize(String tableName) {
+		final String unqualified = tableName.substring( tableName.lastIndexOf( '.' ) + 1 );
+		final StringBuilder name = new StringBuilder( unqualified.length() );
+		for ( int i = 0; i < unqualified.length(); i++ ) {
+			final char c = unqualified.charAt( i );
+			switch ( c ) {
+				case '"':
+				case '`':
+				case '[':
+				case ']':
+					break;
+				default:
+					name.append( c );
+			}
+		}
+		return name.toString().toLowerCase( Locale.ROOT );
+	}
+}
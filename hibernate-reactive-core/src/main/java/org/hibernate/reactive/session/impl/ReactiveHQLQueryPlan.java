@@ -26,6 +26,7 @@
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 /**
@@ -133,6 +134,25 @@ public CompletionStage<List<T>> performReactiveList(QueryParameters queryParamet
 		).thenApply( v -> combinedResults );
 	}
 
+	/**
+	 * Execute the query using a database cursor, returning the results
+	 * one chunk at a time.
+	 */
+	public CompletionStage<ReactiveResultCursor<T>> performReactiveCursor(QueryParameters queryParameters,
+																		 SharedSessionContractImplementor session)
+			throws HibernateException {
+		if ( log.isTraceEnabled() ) {
+			log.tracev( "Find using cursor: {0}", getSourceQuery() );
+			queryParameters.traceParameters( session.getFactory() );
+		}
+
+		final QueryTranslator[] translators = getTranslators();
+		if ( translators.length != 1 ) {
+			throw log.cursorWithSplitQueries( getSourceQuery(), translators.length );
+		}
+		return translator( translators[0] ).reactiveCursor( session, queryParameters );
+	}
+
 	private void needsLimitLoop(QueryParameters queryParameters,
 								List<T> combinedResults,
 								IdentitySet distinction,
@@ -19,6 +19,7 @@
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.transform.ResultTransformer;
 
 import javax.persistence.EntityGraph;
@@ -106,6 +107,15 @@ public CompletionStage<List<R>> getReactiveResultList() {
 				.handle( (list, error) -> convertQueryException( list, error, this ) );
 	}
 
+	@Override
+	public CompletionStage<ReactiveResultCursor<R>> getReactiveResultCursor() {
+		beforeQuery();
+		return reactiveProducer()
+				.<R>reactiveCursor( generateQuerySpecification(), getQueryParameters() )
+				.whenComplete( (cursor, err) -> afterQuery() )
+				.handle( (cursor, error) -> convertQueryException( cursor, error, this ) );
+	}
+
 	private NativeSQLQuerySpecification generateQuerySpecification() {
 		return new NativeSQLQuerySpecification(
 				getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() ),
@@ -142,6 +152,12 @@ public ReactiveNativeQueryImpl<R> setMaxResults(int maxResults) {
 		return this;
 	}
 
+	@Override
+	public ReactiveNativeQueryImpl<R> setFetchSize(int fetchSize) {
+		super.setFetchSize(fetchSize);
+		return this;
+	}
+
 	@Override
 	public ReactiveNativeQueryImpl<R> setFirstResult(int firstResult) {
 		super.setFirstResult(firstResult);
@@ -20,6 +20,7 @@
 import org.hibernate.query.internal.QueryImpl;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.transform.ResultTransformer;
 
 import javax.persistence.EntityGraph;
@@ -118,6 +119,22 @@ public CompletionStage<List<R>> getReactiveResultList() {
 				.handle( (count, error) -> convertQueryException( count, error, this ) );
 	}
 
+	@Override
+	public CompletionStage<ReactiveResultCursor<R>> getReactiveResultCursor() {
+		if ( type!=null && type!=QueryType.SELECT ) {
+			throw new UnsupportedOperationException("not a select query");
+		}
+		if ( getMaxResults() == 0 ) {
+			return completedFuture( ReactiveResultCursor.empty() );
+		}
+		beforeQuery();
+		String expanded = expandedQuery();
+		return reactiveProducer()
+				.<R>reactiveCursor( expanded, makeReactiveQueryParametersForExecution(expanded) )
+				.whenComplete( (cursor, err) -> afterQuery() )
+				.handle( (cursor, error) -> convertQueryException( cursor, error, this ) );
+	}
+
 	private CompletionStage<List<R>> doReactiveList() {
 		if ( getMaxResults() == 0 ) {
 			return completedFuture( Collections.emptyList() );
@@ -225,6 +242,12 @@ public ReactiveQueryImpl<R> setMaxResults(int maxResults) {
 		return this;
 	}
 
+	@Override
+	public ReactiveQueryImpl<R> setFetchSize(int fetchSize) {
+		super.setFetchSize(fetchSize);
+		return this;
+	}
+
 	@Override
 	public ReactiveQueryImpl<R> setFirstResult(int firstResult) {
 		super.setFirstResult(firstResult);
@@ -36,6 +36,7 @@
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.pool.impl.Parameters;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 
 import antlr.RecognitionException;
 import antlr.collections.AST;
@@ -162,6 +163,24 @@ public CompletionStage<List<T>> reactiveList(SharedSessionContractImplementor se
 				} );
 	}
 
+	/**
+	 * Execute the query using a database cursor, returning the results
+	 * one chunk at a time.
+	 */
+	public CompletionStage<ReactiveResultCursor<T>> reactiveCursor(SharedSessionContractImplementor session,
+																  QueryParameters queryParameters)
+			throws HibernateException {
+		errorIfDML();
+
+		if ( containsCollectionFetches() ) {
+			// the rows belonging to a single owner might be split
+			// across chunks, so the collection would be incomplete
+			throw LOG.cursorWithCollectionFetch( getQueryString() );
+		}
+
+		return queryLoader.reactiveCursor( session, queryParameters );
+	}
+
 	/**
 	 * The reactive version of
 	 * {@link QueryTranslatorImpl#executeUpdate(QueryParameters, SharedSessionContractImplementor)}.
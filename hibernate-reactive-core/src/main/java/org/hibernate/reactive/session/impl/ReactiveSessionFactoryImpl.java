@@ -10,6 +10,7 @@
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.mutiny.impl.MutinySessionFactoryImpl;
+import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.stage.impl.StageSessionFactoryImpl;
 import org.hibernate.type.LocalDateTimeType;
@@ -29,9 +30,14 @@
  * {@link Mutiny.SessionFactory}.
  */
 public class ReactiveSessionFactoryImpl extends SessionFactoryImpl {
+
+	private final BatchingConnection.TableDependencies tableDependencies;
+
 	public ReactiveSessionFactoryImpl(MetadataImplementor metadata, SessionFactoryOptions options) {
 		super( metadata, options, ReactiveHQLQueryPlan::new ); //TODO: pass ReactiveNativeHQLQueryPlan::new
 
+		tableDependencies = new ForeignKeyTableDependencies( metadata );
+
 		Map<Integer, Set<String>> contributions =
 				getMetamodel().getTypeConfiguration().getJdbcToHibernateTypeContributionMap();
 		//override the default type mappings for temporal types to return java.time instead of java.sql
@@ -42,6 +48,14 @@ public ReactiveSessionFactoryImpl(MetadataImplementor metadata, SessionFactoryOp
 		contributions.put( Types.JAVA_OBJECT, singleton( ObjectType.class.getName() ) );
 	}
 
+	/**
+	 * The dependencies between the mapped tables, used to group
+	 * statements into batches.
+	 */
+	public BatchingConnection.TableDependencies getTableDependencies() {
+		return tableDependencies;
+	}
+
 	@Override
 	public <T> T unwrap(Class<T> type) {
 		if ( type.isAssignableFrom(Stage.SessionFactory.class) ) {
@@ -7,6 +7,10 @@
 
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,6 +39,7 @@
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
+import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.EffectiveEntityGraph;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
@@ -91,6 +96,7 @@
 import org.hibernate.reactive.loader.custom.impl.ReactiveCustomLoader;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
@@ -98,14 +104,17 @@
 import org.hibernate.reactive.session.CriteriaQueryOptions;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 
 import static org.hibernate.engine.spi.PersistenceContext.NaturalIdHelper.INVALID_NATURAL_ID_REFERENCE;
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.rethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnNullorRethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
@@ -136,7 +145,13 @@ public ReactiveSessionImpl(SessionFactoryImpl delegate, SessionCreationOptions o
 		Integer batchSize = getConfiguredJdbcBatchSize();
 		reactiveConnection = batchSize == null || batchSize < 2
 				? connection
-				: new BatchingConnection( connection, batchSize );
+				: new BatchingConnection( connection, batchSize, tableDependencies( delegate ) );
+	}
+
+	private static BatchingConnection.TableDependencies tableDependencies(SessionFactoryImpl factory) {
+		return factory instanceof ReactiveSessionFactoryImpl
+				? ( (ReactiveSessionFactoryImpl) factory ).getTableDependencies()
+				: BatchingConnection.TableDependencies.UNKNOWN;
 	}
 
 	@Override
@@ -271,6 +286,108 @@ else if ( association instanceof PersistentCollection ) {
 		}
 	}
 
+	@Override @SuppressWarnings("unchecked")
+	public <T> CompletionStage<List<T>> reactiveFetchAll(Collection<T> associations, boolean unproxy) {
+		checkOpen();
+		// group the uninitialized proxies by entity, and the
+		// uninitialized collections by role
+		final Map<String, Map<Serializable, LazyInitializer>> proxies = new LinkedHashMap<>();
+		final Map<String, List<PersistentCollection>> collections = new LinkedHashMap<>();
+		for ( T association : associations ) {
+			if ( association instanceof HibernateProxy ) {
+				final LazyInitializer initializer = ( (HibernateProxy) association ).getHibernateLazyInitializer();
+				if ( initializer.isUninitialized() ) {
+					proxies.computeIfAbsent( initializer.getEntityName(), name -> new LinkedHashMap<>() )
+							.putIfAbsent( initializer.getIdentifier(), initializer );
+				}
+			}
+			else if ( association instanceof PersistentCollection ) {
+				final PersistentCollection collection = (PersistentCollection) association;
+				if ( !collection.wasInitialized() ) {
+					collections.computeIfAbsent( collection.getRole(), role -> new ArrayList<>() )
+							.add( collection );
+				}
+			}
+		}
+		return loop( proxies.values(), this::fetchProxies )
+				.thenCompose( v -> loop( collections.values(), this::fetchCollections ) )
+				.thenApply( v -> {
+					final List<T> result = new ArrayList<>( associations.size() );
+					for ( T association : associations ) {
+						result.add( unproxy && association instanceof HibernateProxy
+								? (T) ( (HibernateProxy) association ).getHibernateLazyInitializer().getImplementation()
+								: association );
+					}
+					return result;
+				} );
+	}
+
+	/**
+	 * Initialize proxies for the same entity using the multi-load
+	 * support of the persister, which loads them in a few batches.
+	 */
+	private CompletionStage<Void> fetchProxies(Map<Serializable, LazyInitializer> initializers) {
+		final String entityName = initializers.values().iterator().next().getEntityName();
+		final EntityPersister persister = getFactory().getMetamodel().entityPersister( entityName );
+		final Serializable[] ids = initializers.keySet().toArray( new Serializable[0] );
+		return ( (ReactiveEntityPersister) persister )
+				.reactiveMultiLoad( ids, this, new ReactiveMultiIdentifierLoadAccessImpl<>( persister ) )
+				.thenAccept( entities -> {
+					int i = 0;
+					for ( LazyInitializer initializer : initializers.values() ) {
+						final Object entity = entities.get( i++ );
+						checkEntityFound( this, entityName, initializer.getIdentifier(), entity );
+						initializer.setSession( this );
+						initializer.setImplementation( entity );
+					}
+				} );
+	}
+
+	/**
+	 * Initialize collections with the same role using a few queries
+	 * with an IN list of the collection keys.
+	 */
+	private CompletionStage<Void> fetchCollections(List<PersistentCollection> collections) {
+		final PersistenceContext persistenceContext = getPersistenceContextInternal();
+		final Serializable[] keys = new Serializable[collections.size()];
+		ReactiveCollectionPersister persister = null;
+		for ( int i = 0; i < keys.length; i++ ) {
+			final CollectionEntry entry = persistenceContext.getCollectionEntry( collections.get( i ) );
+			if ( entry == null ) {
+				// not associated with this session, so let
+				// reactiveInitializeCollection() report it
+				persister = null;
+				break;
+			}
+			persister = (ReactiveCollectionPersister) entry.getLoadedPersister();
+			keys[i] = entry.getLoadedKey();
+		}
+		if ( persister == null
+				|| keys.length == 1
+				// the collections might be in the second-level cache
+				|| persister.hasCache() && getCacheMode().isGetEnabled()
+				// the batch query doesn't apply filters
+				|| persister.isAffectedByEnabledFilters( this ) ) {
+			return loop( collections, collection -> reactiveInitializeCollection( collection, false ) );
+		}
+
+		final ReactiveCollectionPersister collectionPersister = persister;
+		final int batchSize = getJdbcServices().getDialect().getDefaultBatchLoadSizingStrategy()
+				.determineOptimalBatchLoadSize( persister.getKeyType().getColumnSpan( getFactory() ), keys.length );
+		return loop( 0, ( keys.length + batchSize - 1 ) / batchSize, batch -> {
+			final int start = batch * batchSize;
+			final Serializable[] batchKeys = Arrays.copyOfRange( keys, start, Math.min( start + batchSize, keys.length ) );
+			return collectionPersister.reactiveInitialize( batchKeys, this );
+		} ).thenAccept( v -> {
+			final StatisticsImplementor statistics = getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				for ( int i = 0; i < keys.length; i++ ) {
+					statistics.fetchCollection( collectionPersister.getRole() );
+				}
+			}
+		} );
+	}
+
 	@Override
 	public <E,T> CompletionStage<T> reactiveFetch(E entity, Attribute<E,T> field) {
 		return ( (ReactiveEntityPersister) getEntityPersister( null, entity ) )
@@ -460,6 +577,36 @@ public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spe
 				} );
 	}
 
+	@Override
+	public <T> CompletionStage<ReactiveResultCursor<T>> reactiveCursor(String query, QueryParameters parameters) {
+		checkOpenOrWaitingForAutoClose();
+		pulseTransactionCoordinator();
+		parameters.validateParameters();
+
+		ReactiveHQLQueryPlan<T> reactivePlan = getReactivePlan( query, parameters );
+		return reactiveAutoFlushIfRequired( reactivePlan.getQuerySpaces() )
+				.thenCompose( v -> reactivePlan.performReactiveCursor( parameters, this ) )
+				.whenComplete( (cursor, x) -> {
+					afterOperation( x == null );
+					delayedAfterCompletion();
+				} );
+	}
+
+	@Override
+	public <T> CompletionStage<ReactiveResultCursor<T>> reactiveCursor(NativeSQLQuerySpecification spec, QueryParameters parameters) {
+		checkOpenOrWaitingForAutoClose();
+		checkTransactionSynchStatus();
+
+		ReactiveCustomLoader<T> loader =
+				new ReactiveCustomLoader<>( getNativeQueryPlan( spec ).getCustomQuery(), getFactory() );
+		return reactiveAutoFlushIfRequired( loader.getQuerySpaces() )
+				.thenCompose( v -> loader.reactiveCursor( this, parameters ) )
+				.whenComplete( (cursor, e) -> {
+					afterOperation( e == null );
+					delayedAfterCompletion();
+				} );
+	}
+
 	@Override
 	public <R> ReactiveQuery<R> createReactiveNamedQuery(String name) {
 		return buildReactiveQueryFromName( name, null );
@@ -40,6 +40,7 @@
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
 import org.hibernate.reactive.loader.custom.impl.ReactiveCustomLoader;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
@@ -51,6 +52,7 @@
 import org.hibernate.reactive.session.CriteriaQueryOptions;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
 import org.hibernate.tuple.entity.EntityMetamodel;
 
@@ -58,7 +60,10 @@
 import javax.persistence.Tuple;
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -68,6 +73,7 @@
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * An {@link ReactiveStatelessSession} implemented by extension of
@@ -82,7 +88,7 @@ public class ReactiveStatelessSessionImpl extends StatelessSessionImpl
 
 	private ReactiveConnection reactiveConnection;
 
-	private final ReactiveStatelessSession batchingHelperSession;
+	private final ReactiveStatelessSessionImpl batchingHelperSession;
 
 	private final PersistenceContext persistenceContext;
 
@@ -185,9 +191,20 @@ public ReactiveEntityPersister getEntityPersister(String entityName, Object obje
 
 	@Override
 	public CompletionStage<Void> reactiveInsert(Object entity) {
+		return reactiveInsert( entity, null );
+	}
+
+	/**
+	 * @param generatedId an id already generated for the entity, or
+	 *                    {@code null} if it should be generated now
+	 */
+	private CompletionStage<Void> reactiveInsert(Object entity, Serializable generatedId) {
 		checkOpen();
 		ReactiveEntityPersister persister = getEntityPersister( null, entity );
-		return generateId( entity, persister, this, this )
+		final CompletionStage<Serializable> generated = generatedId == null
+				? generateId( entity, persister, this, this )
+				: completedFuture( generatedId );
+		return generated
 				.thenCompose( id -> {
 					Object[] state = persister.getPropertyValues( entity );
 					if ( persister.isVersioned() ) {
@@ -300,17 +317,61 @@ public CompletionStage<Void> reactiveRefresh(Object entity, LockMode lockMode) {
 
 	@Override
 	public CompletionStage<Void> reactiveInsertAll(Object... entities) {
-		return loop( entities, batchingHelperSession::reactiveInsert )
+		return insertAll( entities )
 				.thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
 	}
 
 	@Override
 	public CompletionStage<Void> reactiveInsertAll(int batchSize, Object... entities) {
 		final ReactiveConnection connection = batchingConnection( batchSize );
-		return loop( entities, batchingHelperSession::reactiveInsert )
+		return insertAll( entities )
 				.thenCompose( v -> connection.executeBatch() );
 	}
 
+	private CompletionStage<Void> insertAll(Object[] entities) {
+		return generateIds( entities )
+				.thenCompose( ids -> loop( 0, entities.length,
+						i -> batchingHelperSession.reactiveInsert( entities[i], ids[i] ) ) );
+	}
+
+	/**
+	 * Generate the ids of the given entities up front, requesting all
+	 * the ids for entities of the same type from their generator at
+	 * once, so that the generator can fetch them together.
+	 *
+	 * @return the generated ids, with {@code null} for each entity
+	 *         whose id is assigned or generated by the insert
+	 */
+	@SuppressWarnings("unchecked")
+	private CompletionStage<Serializable[]> generateIds(Object[] entities) {
+		final Serializable[] ids = new Serializable[entities.length];
+		final Map<EntityPersister, List<Integer>> positionsByPersister = new LinkedHashMap<>();
+		for ( int i = 0; i < entities.length; i++ ) {
+			final EntityPersister persister = getEntityPersister( null, entities[i] );
+			if ( !persister.isIdentifierAssignedByInsert()
+					&& persister.getIdentifierGenerator() instanceof ReactiveIdentifierGenerator ) {
+				positionsByPersister.computeIfAbsent( persister, p -> new ArrayList<>() ).add( i );
+			}
+		}
+		return loop( positionsByPersister.entrySet(), entry -> {
+			final List<Integer> positions = entry.getValue();
+			if ( positions.size() < 2 ) {
+				return voidFuture();
+			}
+			final List<Object> group = new ArrayList<>( positions.size() );
+			for ( int position : positions ) {
+				group.add( entities[position] );
+			}
+			return ( (ReactiveIdentifierGenerator<Serializable>) entry.getKey().getIdentifierGenerator() )
+					.generateAll( batchingHelperSession, group )
+					.thenAccept( generated -> {
+						for ( int j = 0; j < positions.size(); j++ ) {
+							ids[positions.get( j )] = generated.get( j );
+						}
+					} );
+		} ).thenApply( v -> ids );
+	}
+
 	@Override
 	public CompletionStage<Void> reactiveUpdateAll(Object... entities) {
 		return loop( entities, batchingHelperSession::reactiveUpdate )
@@ -576,6 +637,42 @@ public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spe
 				} );
 	}
 
+	@Override
+	public <T> CompletionStage<ReactiveResultCursor<T>> reactiveCursor(String query, QueryParameters parameters) {
+		checkOpen();
+		parameters.validateParameters();
+
+		ReactiveHQLQueryPlan<T> reactivePlan = getReactivePlan( query, parameters );
+		return reactivePlan.performReactiveCursor( parameters, this )
+				.thenApply( this::clearingPersistenceContext )
+				.whenComplete( (cursor, x) -> afterOperation( x == null ) );
+	}
+
+	@Override
+	public <T> CompletionStage<ReactiveResultCursor<T>> reactiveCursor(NativeSQLQuerySpecification spec, QueryParameters parameters) {
+		checkOpen();
+
+		ReactiveCustomLoader<T> loader = new ReactiveCustomLoader<>(
+				getNativeQueryPlan( spec ).getCustomQuery(),
+				getFactory()
+		);
+
+		return loader.reactiveCursor( this, parameters )
+				.thenApply( this::clearingPersistenceContext )
+				.whenComplete( (cursor, x) -> afterOperation( x == null ) );
+	}
+
+	/**
+	 * The temporary persistence context must be cleared after each
+	 * chunk of results, or the whole result set would accumulate there.
+	 */
+	private <T> ReactiveResultCursor<T> clearingPersistenceContext(ReactiveResultCursor<T> cursor) {
+		return cursor.map( results -> {
+			getPersistenceContext().clear();
+			return results;
+		} );
+	}
+
 	private static String comment(NamedQueryDefinition queryDefinition) {
 		return queryDefinition.getComment() != null
 				? queryDefinition.getComment()
@@ -7,8 +7,11 @@
 
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import javax.persistence.EntityGraph;
@@ -35,6 +38,7 @@
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnectionPoolStatistics;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.stat.Statistics;
@@ -116,6 +120,12 @@ public interface Stage {
 		 */
 		Query<R> setFirstResult(int firstResult);
 
+		/**
+		 * Set the number of rows fetched from the database at a time
+		 * when the results are streamed using {@link #getResultStream()}.
+		 */
+		Query<R> setFetchSize(int fetchSize);
+
 		/**
 		 * @return the maximum number results, or {@link Integer#MAX_VALUE}
 		 *          if not set
@@ -168,6 +178,24 @@ public interface Stage {
 		 */
 		CompletionStage<List<R>> getResultList();
 
+		/**
+		 * Execute this query, returning the query results as a
+		 * {@link Flow.Publisher} which reads the rows from a database cursor
+		 * as they are requested by the subscriber, {@link #setFetchSize(int)
+		 * fetch size} rows at a time. If the query has multiple results per
+		 * row, the results are returned in an instance of {@code Object[]}.
+		 * <p>
+		 * Entities loaded by a {@link Session} remain in its persistence
+		 * context, so, to keep memory usage bounded, it's best to stream
+		 * large results using a {@link StatelessSession}. Some databases,
+		 * including PostgreSQL, only support cursors within a transaction.
+		 *
+		 * @return the resulting rows as a {@link Flow.Publisher}
+		 *
+		 * @see javax.persistence.Query#getResultStream()
+		 */
+		Flow.Publisher<R> getResultStream();
+
 		/**
 		 * Asynchronously execute this delete, update, or insert query,
 		 * returning the updated row count.
@@ -661,6 +689,26 @@ interface Session extends Closeable {
 		 */
 		<T> CompletionStage<T> unproxy(T association);
 
+		/**
+		 * Asynchronously fetch several associations that are configured for
+		 * lazy loading, using as few queries as possible. Uninitialized proxies
+		 * are grouped by entity and loaded by id, and uninitialized collections
+		 * are grouped by role and loaded by owner key, using a SQL {@code in}
+		 * list, whether or not a {@link org.hibernate.annotations.BatchSize}
+		 * is specified for the association.
+		 *
+		 * <pre>
+		 * {@code session.fetchAll(authors.stream().map(Author::getBooks).collect(toList()))}
+		 * </pre>
+		 *
+		 * @param associations lazy-loaded associations, all belonging to this session
+		 *
+		 * @return the fetched associations, in order, via a {@code CompletionStage}
+		 *
+		 * @see Stage#fetchAll(Collection)
+		 */
+		<T> CompletionStage<List<T>> fetchAll(Collection<T> associations);
+
 		/**
 		 * Determine the current lock mode of the given entity.
 		 */
@@ -1334,6 +1382,21 @@ interface StatelessSession extends Closeable {
 		 */
 		CompletionStage<Void> insert(int batchSize, Object... entities);
 
+		/**
+		 * Insert a stream of new rows, using the specified batch size.
+		 * The entities are requested from the given {@link Flow.Publisher}
+		 * one batch at a time, and the next batch is only requested after
+		 * the rows of the previous batch have been inserted, so that a
+		 * stream too large to hold in memory may be ingested without
+		 * overwhelming the database.
+		 *
+		 * @param batchSize the batch size
+		 * @param entities a stream of new transient instances
+		 *
+		 * @see org.hibernate.StatelessSession#insert(Object)
+		 */
+		CompletionStage<Void> insert(int batchSize, Flow.Publisher<?> entities);
+
 		/**
 		 * Delete a row.
 		 *
@@ -1855,6 +1918,19 @@ default <T> CompletionStage<T> withStatelessTransaction(Function<StatelessSessio
 		 */
 		Statistics getStatistics();
 
+		/**
+		 * Obtain the {@link ReactiveConnectionPoolStatistics} object
+		 * exposing metrics collected by the reactive connection pool,
+		 * including the time spent waiting for connections.
+		 *
+		 * @return the statistics, or {@code null} if the connection
+		 *         pool does not collect statistics
+		 */
+		@Incubating
+		default ReactiveConnectionPoolStatistics getConnectionPoolStatistics() {
+			return null;
+		}
+
 		/**
 		 * Destroy the session factory and clean up its connection pool.
 		 */
@@ -1907,4 +1983,39 @@ else if ( association instanceof PersistentCollection) {
 		}
 		return ( (ReactiveSession) session ).reactiveFetch( association, false );
 	}
+
+	/**
+	 * Asynchronously fetch several associations that are configured for
+	 * lazy loading, using as few queries as possible.
+	 *
+	 * <pre>
+	 * {@code Stage.fetchAll(authors.stream().map(Author::getBooks).collect(toList()))}
+	 * </pre>
+	 *
+	 * @param associations lazy-loaded associations, all belonging to the same session
+	 *
+	 * @return the fetched associations, in order, via a {@code CompletionStage}
+	 *
+	 * @see Session#fetchAll(Collection)
+	 */
+	static <T> CompletionStage<List<T>> fetchAll(Collection<T> associations) {
+		for ( T association : associations ) {
+			SharedSessionContractImplementor session;
+			if ( association instanceof HibernateProxy ) {
+				session = ( (HibernateProxy) association ).getHibernateLazyInitializer().getSession();
+			}
+			else if ( association instanceof PersistentCollection ) {
+				session = ( (AbstractPersistentCollection) association ).getSession();
+			}
+			else {
+				continue;
+			}
+			if ( session == null ) {
+				throw LOG.sessionClosedLazyInitializationException();
+			}
+			return ( (ReactiveSession) session ).reactiveFetchAll( associations, false );
+		}
+		// there's nothing to fetch
+		return CompletionStages.completedFuture( new ArrayList<>( associations ) );
+	}
 }
@@ -12,10 +12,15 @@
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.stage.Stage;
 
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.reactivestreams.FlowAdapters;
+
 import javax.persistence.EntityGraph;
 import javax.persistence.Parameter;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.function.Function;
 
 /**
@@ -69,6 +74,12 @@ public int getMaxResults() {
 		return delegate.getMaxResults();
 	}
 
+	@Override
+	public Stage.Query<R> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
 	@Override
 	public Stage.Query<R> setFirstResult(int firstResult) {
 		delegate.setFirstResult( firstResult );
@@ -191,4 +202,17 @@ public CompletionStage<List<R>> getResultList() {
 		return stage( v -> delegate.getReactiveResultList() );
 	}
 
+	@Override
+	public Flow.Publisher<R> getResultStream() {
+		final Multi<R> results = Uni.createFrom()
+				.completionStage( () -> stage( v -> delegate.getReactiveResultCursor() ) )
+				.onItem().transformToMulti( cursor -> Multi.createBy().repeating()
+						// a chunk is only read when the subscriber requests more items
+						.completionStage( () -> stage( v -> cursor.next() ) )
+						.whilst( list -> cursor.hasMore() )
+						.onItem().<R>disjoint()
+						.onTermination().call( () -> Uni.createFrom().completionStage( () -> stage( v -> cursor.close() ) ) ) );
+		return FlowAdapters.toFlowPublisher( results );
+	}
+
 }
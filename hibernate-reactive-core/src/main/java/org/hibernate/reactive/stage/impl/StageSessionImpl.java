@@ -28,6 +28,7 @@
 import javax.persistence.criteria.CriteriaUpdate;
 import javax.persistence.metamodel.Attribute;
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -77,6 +78,11 @@ public <T> CompletionStage<T> unproxy(T association) {
 		return stage( v -> delegate.reactiveFetch(association, true) );
 	}
 
+	@Override
+	public <T> CompletionStage<List<T>> fetchAll(Collection<T> associations) {
+		return stage( v -> delegate.reactiveFetchAll( associations, false ) );
+	}
+
 	public ReactiveConnection getReactiveConnection() {
 		return delegate.getReactiveConnection();
 	}
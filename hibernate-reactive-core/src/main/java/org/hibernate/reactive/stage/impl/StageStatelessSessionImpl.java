@@ -13,12 +13,17 @@
 import org.hibernate.reactive.session.ReactiveStatelessSession;
 import org.hibernate.reactive.stage.Stage;
 
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.reactivestreams.FlowAdapters;
+
 import javax.persistence.EntityGraph;
 import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.CriteriaUpdate;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.function.Function;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
@@ -130,6 +135,17 @@ public CompletionStage<Void> insert(int batchSize, Object... entities) {
 		return stage( w -> delegate.reactiveInsertAll( batchSize, entities ) );
 	}
 
+	@Override
+	public CompletionStage<Void> insert(int batchSize, Flow.Publisher<?> entities) {
+		return Multi.createFrom().publisher( FlowAdapters.toPublisher( entities ) )
+				.group().intoLists().of( batchSize )
+				// a batch is only requested once the previous one is inserted
+				.onItem().transformToUniAndConcatenate( batch -> Uni.createFrom()
+						.completionStage( () -> insert( batchSize, batch.toArray() ) ) )
+				.onItem().ignoreAsUni()
+				.subscribeAsCompletionStage();
+	}
+
 	@Override
 	public CompletionStage<Void> delete(Object entity) {
 		return stage( w -> delegate.reactiveDelete( entity ) );
@@ -122,6 +122,38 @@ public static void logSqlException(Throwable t, Supplier<String> message, String
 		}
 	}
 
+	/**
+	 * @return {@code true} if the given stage has already completed
+	 *         normally, so that its result may be used immediately
+	 */
+	private static boolean isCompletedNormally(CompletionStage<?> stage) {
+		if ( stage instanceof CompletableFuture ) {
+			final CompletableFuture<?> future = (CompletableFuture<?>) stage;
+			return future.isDone() && !future.isCompletedExceptionally();
+		}
+		return false;
+	}
+
+	/**
+	 * Run the given loop synchronously for as long as each step completes
+	 * immediately, and only fall back to the {@linkplain
+	 * org.hibernate.reactive.util.async.impl.AsyncTrampoline trampoline}
+	 * once a step is really pending. In the common case, where
+	 * every step is already completed, this doesn't allocate any stage.
+	 */
+	private static CompletionStage<Void> runLoop(Supplier<CompletionStage<Boolean>> loop) {
+		final CompletionStage<Boolean> pending;
+		try {
+			pending = loop.get();
+		}
+		catch (Throwable t) {
+			return failedFuture( t );
+		}
+		return pending == FALSE
+				? voidFuture()
+				: pending.thenCompose( v -> asyncWhile( loop ) );
+	}
+
 	/**
 	 * Equivalent to:
 	 * <pre>
@@ -132,9 +164,26 @@ public static void logSqlException(Throwable t, Supplier<String> message, String
 	 * </pre>
 	 */
 	public static CompletionStage<Integer> total(int start, int end, IntFunction<CompletionStage<Integer>> consumer) {
-		return range( start, end )
-				.thenCompose( i -> consumer.apply( i.intValue() ) )
-				.fold( 0, Integer::sum );
+		int total = 0;
+		// sum synchronously for as long as the stages are already completed
+		for ( int index = start; index < end; index++ ) {
+			final CompletionStage<Integer> stage;
+			try {
+				stage = consumer.apply( index );
+			}
+			catch (Throwable t) {
+				return failedFuture( t );
+			}
+			if ( !isCompletedNormally( stage ) ) {
+				final int subtotal = total;
+				final int next = index + 1;
+				return stage.thenCompose( value -> range( next, end )
+						.thenCompose( i -> consumer.apply( i.intValue() ) )
+						.fold( subtotal + value, Integer::sum ) );
+			}
+			total += stage.toCompletableFuture().join();
+		}
+		return completedFuture( total );
 	}
 
 	/**
@@ -147,9 +196,25 @@ public static CompletionStage<Integer> total(int start, int end, IntFunction<Com
 	 * </pre>
 	 */
 	public static <T> CompletionStage<Integer> total(Iterator<T> iterator, Function<T,CompletionStage<Integer>> consumer) {
-		return fromIterator( iterator )
-				.thenCompose( consumer )
-				.fold( 0, Integer::sum );
+		int total = 0;
+		// sum synchronously for as long as the stages are already completed
+		while ( iterator.hasNext() ) {
+			final CompletionStage<Integer> stage;
+			try {
+				stage = consumer.apply( iterator.next() );
+			}
+			catch (Throwable t) {
+				return failedFuture( t );
+			}
+			if ( !isCompletedNormally( stage ) ) {
+				final int subtotal = total;
+				return stage.thenCompose( value -> fromIterator( iterator )
+						.thenCompose( consumer )
+						.fold( subtotal + value, Integer::sum ) );
+			}
+			total += stage.toCompletableFuture().join();
+		}
+		return completedFuture( total );
 	}
 
 	/**
@@ -218,8 +283,7 @@ public static <T> CompletionStage<Void> loop(Iterator<T> iterator, IntBiFunction
 	 */
 	public static <T> CompletionStage<Void> loop(Iterator<T> iterator, IntBiPredicate<T> filter, IntBiFunction<T, CompletionStage<?>> consumer) {
 		if ( iterator.hasNext() ) {
-			final IndexedIteratorLoop<T> loop = new IndexedIteratorLoop<>( iterator, filter, consumer );
-			return asyncWhile( loop::next );
+			return runLoop( new IndexedIteratorLoop<>( iterator, filter, consumer ) );
 		}
 		return voidFuture();
 	}
@@ -242,12 +306,12 @@ public static <T> CompletionStage<Void> loop(Iterator<T> iterator, IntBiPredicat
 	 * </p>
 	 * <p>
 	 * This class keeps track of the state of the loop, allowing us to
-	 * use an {@code AsyncTrampoline#asyncWhile} via method reference.
+	 * pass it to {@code AsyncTrampoline#asyncWhile} as a {@link Supplier}.
 	 * </p>
 	 * @see org.hibernate.reactive.util.async.impl.AsyncTrampoline
 	 * @param <T> the class of the elements in the iterator
 	 */
-	private static class IndexedIteratorLoop<T> {
+	private static class IndexedIteratorLoop<T> implements Supplier<CompletionStage<Boolean>> {
 		private final IntBiPredicate<T> filter;
 		private final IntBiFunction<T, CompletionStage<?>> consumer;
 		private final Iterator<T> iterator;
@@ -260,12 +324,17 @@ public IndexedIteratorLoop(Iterator<T> iterator, IntBiPredicate<T> filter, IntBi
 			this.consumer = consumer;
 		}
 
-		public CompletionStage<Boolean> next() {
-			if ( hasNext() ) {
-				final T entry = currentEntry;
-				final int index = currentIndex;
-				return consumer.apply( entry, index )
-						.thenCompose( CompletionStages::alwaysContinue );
+		/**
+		 * Execute the steps of the loop which complete immediately,
+		 * stopping at the first pending step, or at the end of the loop.
+		 */
+		@Override
+		public CompletionStage<Boolean> get() {
+			while ( hasNext() ) {
+				final CompletionStage<?> stage = consumer.apply( currentEntry, currentIndex );
+				if ( !isCompletedNormally( stage ) ) {
+					return stage.thenCompose( CompletionStages::alwaysContinue );
+				}
 			}
 			return FALSE;
 		}
@@ -352,8 +421,7 @@ public static CompletionStage<Void> loop(int start, int end, IntFunction<Complet
 	 */
 	public static CompletionStage<Void> loop(int start, int end, IntPredicate filter, IntFunction<CompletionStage<?>> consumer) {
 		if ( start < end ) {
-			final ArrayLoop loop = new ArrayLoop( start, end, filter, consumer);
-			return asyncWhile( loop::next );
+			return runLoop( new ArrayLoop( start, end, filter, consumer ) );
 		}
 		return voidFuture();
 	}
@@ -372,10 +440,10 @@ public static CompletionStage<Void> loop(int start, int end, IntPredicate filter
 	 * </p>
 	 * <p>
 	 * This class keeps track of the state of the loop, allowing us to
-	 * use an {@code AsyncTrampoline#asyncWhile} via method reference.
+	 * pass it to {@code AsyncTrampoline#asyncWhile} as a {@link Supplier}.
 	 * </p>
 	 */
-	private static class ArrayLoop {
+	private static class ArrayLoop implements Supplier<CompletionStage<Boolean>> {
 
 		private final IntPredicate filter;
 		private final IntFunction<CompletionStage<?>> consumer;
@@ -389,12 +457,17 @@ public ArrayLoop(int start, int end, IntPredicate filter, IntFunction<Completion
 			this.current = start;
 		}
 
-		public CompletionStage<Boolean> next() {
-			current = next( current );
-			if ( current < end ) {
-				final int index = current++;
-				return consumer.apply( index )
-						.thenCompose( CompletionStages::alwaysContinue );
+		/**
+		 * Execute the steps of the loop which complete immediately,
+		 * stopping at the first pending step, or at the end of the loop.
+		 */
+		@Override
+		public CompletionStage<Boolean> get() {
+			while ( ( current = next( current ) ) < end ) {
+				final CompletionStage<?> stage = consumer.apply( current++ );
+				if ( !isCompletedNormally( stage ) ) {
+					return stage.thenCompose( CompletionStages::alwaysContinue );
+				}
 			}
 			return FALSE;
 		}
@@ -0,0 +1,186 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that batching of statements for several tables
+ * respects the foreign keys between the tables.
+ */
+public class BatchGroupingTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		configuration.addAnnotatedClass( Owner.class );
+		configuration.addAnnotatedClass( Pet.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Pet", "Owner" ) );
+	}
+
+	@Test
+	public void testInterleavedInserts(TestContext context) {
+		final List<Object> entities = new ArrayList<>();
+		for ( int i = 0; i < 5; i++ ) {
+			Owner owner = new Owner( i, "Owner " + i );
+			entities.add( owner );
+			entities.add( new Pet( i * 10, "Pet " + i, owner ) );
+			entities.add( new Pet( i * 10 + 1, "Other pet " + i, owner ) );
+		}
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( entities.toArray() ) )
+				.thenCompose( v -> getSessionFactory()
+						.withSession( s -> s.createQuery( "from Pet p join fetch p.owner", Pet.class ).getResultList() ) )
+				.thenAccept( pets -> {
+					assertThat( pets ).hasSize( 10 );
+					pets.forEach( pet -> assertThat( pet.getOwner().getId() ).isEqualTo( pet.getId() / 10 ) );
+				} )
+		);
+	}
+
+	@Test
+	public void testInsertReferencingLaterTable(TestContext context) {
+		// a pet without an owner is inserted first, so the pets
+		// which have an owner mustn't be added to its batch
+		final Owner owner = new Owner( 1, "Owner" );
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist(
+						new Pet( 1, "Stray", null ),
+						owner,
+						new Pet( 2, "Pet", owner ),
+						new Pet( 3, "Other pet", owner )
+				) )
+				.thenCompose( v -> getSessionFactory()
+						.withSession( s -> s.createQuery( "select count(*) from Pet where owner is not null", Long.class )
+								.getSingleResult() ) )
+				.thenAccept( count -> assertThat( count ).isEqualTo( 2L ) )
+		);
+	}
+
+	@Test
+	public void testInterleavedDeletes(TestContext context) {
+		final List<Object> entities = new ArrayList<>();
+		for ( int i = 0; i < 3; i++ ) {
+			Owner owner = new Owner( i, "Owner " + i );
+			entities.add( owner );
+			if ( i > 0 ) {
+				entities.add( new Pet( i, "Pet " + i, owner ) );
+			}
+		}
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( entities.toArray() ) )
+				.thenCompose( v -> getSessionFactory()
+						.withTransaction( (s, tx) -> s.createQuery( "from Owner order by id", Owner.class )
+								.getResultList()
+								// an owner without pets, then each pet before its owner
+								.thenCompose( owners -> s.remove( owners.get( 0 ) )
+										.thenCompose( vv -> s.createQuery( "from Pet order by id", Pet.class ).getResultList() )
+										.thenCompose( pets -> s.remove(
+												pets.get( 0 ), owners.get( 1 ),
+												pets.get( 1 ), owners.get( 2 )
+										) ) ) ) )
+				.thenCompose( v -> getSessionFactory()
+						.withSession( s -> s.createQuery( "select count(*) from Owner", Long.class ).getSingleResult() ) )
+				.thenAccept( count -> assertThat( count ).isEqualTo( 0L ) )
+		);
+	}
+
+	@Entity(name = "Owner")
+	@Table(name = "GroupedOwner")
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	@Table(name = "GroupedPet")
+	public static class Pet {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne
+		private Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+
+		public void setOwner(Owner owner) {
+			this.owner = owner;
+		}
+	}
+}
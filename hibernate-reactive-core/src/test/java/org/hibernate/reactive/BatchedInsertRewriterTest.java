@@ -0,0 +1,93 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.reactive.pool.impl.BatchedInsertRewriter;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the rewriting of batched inserts as multi-row inserts,
+ * without a database.
+ */
+public class BatchedInsertRewriterTest {
+
+	private static final String INSERT = "insert into Book (title, isbn, id) values (?, ?, ?)";
+
+	@Test
+	public void testRewrite() {
+		final List<BatchedInsertRewriter.Chunk> chunks = new BatchedInsertRewriter( BatchedInsertRewriter.DEFAULT_MAX_STATEMENT_SIZE )
+				.rewrite( INSERT, rows( 3 ) );
+		assertThat( chunks ).hasSize( 1 );
+		assertThat( chunks.get( 0 ).getSql() )
+				.isEqualTo( "insert into Book (title, isbn, id) values (?, ?, ?),(?, ?, ?),(?, ?, ?)" );
+		assertThat( chunks.get( 0 ).getParameters() )
+				.containsExactly( "title 0", "isbn 0", 0, "title 1", "isbn 1", 1, "title 2", "isbn 2", 2 );
+	}
+
+	@Test
+	public void testRewriteWithComment() {
+		final List<BatchedInsertRewriter.Chunk> chunks = new BatchedInsertRewriter( BatchedInsertRewriter.DEFAULT_MAX_STATEMENT_SIZE )
+				.rewrite( "/* insert Book */ " + INSERT, rows( 2 ) );
+		assertThat( chunks ).hasSize( 1 );
+		assertThat( chunks.get( 0 ).getRows() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testChunksRespectMaxSize() {
+		// each row is estimated at 65 bytes: 10 for the SQL,
+		// 3 per char of the strings, and 16 for the integer
+		final int maxSize = INSERT.length() + 150;
+		final List<BatchedInsertRewriter.Chunk> chunks = new BatchedInsertRewriter( maxSize )
+				.rewrite( INSERT, rows( 5 ) );
+		assertThat( chunks ).extracting( BatchedInsertRewriter.Chunk::getRows ).containsExactly( 2, 2, 1 );
+		assertThat( chunks.get( 2 ).getParameters() ).containsExactly( "title 4", "isbn 4", 4 );
+	}
+
+	@Test
+	public void testChunksRespectMaxParameters() {
+		final int rows = BatchedInsertRewriter.MAX_PARAMETERS / 3 + 1;
+		final List<BatchedInsertRewriter.Chunk> chunks = new BatchedInsertRewriter( Integer.MAX_VALUE )
+				.rewrite( INSERT, rows( rows ) );
+		assertThat( chunks ).extracting( BatchedInsertRewriter.Chunk::getRows )
+				.containsExactly( BatchedInsertRewriter.MAX_PARAMETERS / 3, 1 );
+	}
+
+	@Test
+	public void testStatementsWhichAreNotRewritten() {
+		final BatchedInsertRewriter rewriter = new BatchedInsertRewriter( BatchedInsertRewriter.DEFAULT_MAX_STATEMENT_SIZE );
+		assertThat( rewriter.rewrite( "update Book set title = ? where id = ?", rows( 2 ) ) ).isNull();
+		assertThat( rewriter.rewrite( INSERT + " on duplicate key update title = ?", rows( 2 ) ) ).isNull();
+		assertThat( rewriter.rewrite( "insert into Book (title, isbn, id) select ?, ?, ? from dual", rows( 2 ) ) ).isNull();
+		assertThat( rewriter.rewrite( "insert into Book (title, isbn, id) values ('?', ?, ?)", rows( 2 ) ) ).isNull();
+	}
+
+	@Test
+	public void testRowCounts() {
+		final BatchedInsertRewriter.Chunk chunk = new BatchedInsertRewriter( BatchedInsertRewriter.DEFAULT_MAX_STATEMENT_SIZE )
+				.rewrite( INSERT, rows( 2 ) ).get( 0 );
+		final int[] rowCounts = new int[3];
+		chunk.copyRowCounts( 2, rowCounts, 1 );
+		assertThat( rowCounts ).containsExactly( 0, 1, 1 );
+		// we can't tell which rows were inserted
+		chunk.copyRowCounts( 1, rowCounts, 1 );
+		assertThat( rowCounts ).containsExactly( 0, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO );
+	}
+
+	private static List<Object[]> rows(int count) {
+		final List<Object[]> rows = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			rows.add( new Object[] { "title " + i, "isbn " + i, i } );
+		}
+		return rows;
+	}
+}
@@ -0,0 +1,104 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Tests that ids are still allocated correctly when the next block is
+ * fetched in the background.
+ */
+public class BlockPrefetchGeneratorTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.ID_BLOCK_LOW_WATER_MARK, "2" );
+		configuration.addAnnotatedClass( Ticket.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Ticket" ) );
+	}
+
+	@Test
+	public void testIdsAcrossPrefetchedBlocks(TestContext context) {
+		final List<Ticket> tickets = new ArrayList<>();
+		for ( int i = 0; i < 12; i++ ) {
+			tickets.add( new Ticket( "ticket " + i ) );
+		}
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> persistInOrder( s, tickets ) )
+				.thenAccept( v -> {
+					// the ids are consecutive, since no block was skipped
+					for ( int i = 0; i < tickets.size(); i++ ) {
+						assertThat( tickets.get( i ).getId() ).isEqualTo( 1 + i );
+					}
+				} )
+				.thenCompose( v -> openSession() )
+				.thenCompose( s -> s.createQuery( "select count(*) from Ticket", Long.class ).getSingleResult() )
+				.thenAccept( count -> assertThat( count ).isEqualTo( tickets.size() ) )
+		);
+	}
+
+	private static CompletionStage<Void> persistInOrder(Stage.Session session, List<Ticket> tickets) {
+		return loop( tickets, session::persist );
+	}
+
+	@Entity(name = "Ticket")
+	@Table(name = "PrefetchTicket")
+	@SequenceGenerator(name = "prefetch_seq", sequenceName = "prefetch_ticket_seq", allocationSize = 5)
+	public static class Ticket {
+		@Id
+		@GeneratedValue(generator = "prefetch_seq")
+		private Integer id;
+		private String label;
+
+		public Ticket() {
+		}
+
+		public Ticket(String label) {
+			this.label = label;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getLabel() {
+			return label;
+		}
+
+		public void setLabel(String label) {
+			this.label = label;
+		}
+	}
+}
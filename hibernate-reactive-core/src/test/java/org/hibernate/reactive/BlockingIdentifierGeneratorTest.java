@@ -0,0 +1,202 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.reactive.id.impl.BlockingIdentifierGenerator;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.service.ServiceRegistry;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests allocation of ids by a {@link BlockingIdentifierGenerator} from
+ * many threads at once, without a database.
+ */
+public class BlockingIdentifierGeneratorTest {
+
+	private static final int BLOCK_SIZE = 10;
+
+	private static class Generator extends BlockingIdentifierGenerator {
+		final AtomicLong hi = new AtomicLong();
+		final AtomicInteger fetches = new AtomicInteger();
+		final ConcurrentLinkedQueue<CompletableFuture<Long>> delayed = new ConcurrentLinkedQueue<>();
+		volatile boolean delay;
+
+		void configure(ServiceRegistry registry) {
+			configureAllocation( registry );
+		}
+
+		void configure(ServiceRegistry registry, String optimizer) {
+			final Properties params = new Properties();
+			params.setProperty( SequenceStyleGenerator.OPT_PARAM, optimizer );
+			configureOptimizer( params, registry, 1 );
+			configureAllocation( registry );
+		}
+
+		@Override
+		protected int getBlockSize() {
+			return BLOCK_SIZE;
+		}
+
+		@Override
+		protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session) {
+			fetches.incrementAndGet();
+			final long value = hi.getAndAdd( BLOCK_SIZE );
+			if ( delay ) {
+				final CompletableFuture<Long> result = new CompletableFuture<>();
+				delayed.add( result );
+				return result.thenApply( v -> value );
+			}
+			return CompletableFuture.completedFuture( value );
+		}
+	}
+
+	@Test
+	public void testConcurrentStreamsWaitForOneFetch() {
+		final Generator generator = new Generator();
+		generator.delay = true;
+		final List<CompletableFuture<Long>> ids = new ArrayList<>();
+		for ( int i = 0; i < BLOCK_SIZE; i++ ) {
+			ids.add( generator.generate( null, null ).toCompletableFuture() );
+		}
+		// every stream waits for the same block
+		assertThat( generator.fetches.get() ).isEqualTo( 1 );
+		generator.delayed.poll().complete( 0L );
+
+		final Set<Long> values = new HashSet<>();
+		for ( CompletableFuture<Long> id : ids ) {
+			values.add( id.join() );
+		}
+		assertThat( values ).hasSize( BLOCK_SIZE );
+		assertThat( generator.fetches.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testIdsAreUniqueAcrossThreads() throws Exception {
+		assertUniqueAcrossThreads( new Generator() );
+	}
+
+	@Test
+	public void testStripedIdsAreUniqueAcrossThreads() throws Exception {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( Settings.ID_BLOCK_STRIPE_SIZE, "3" )
+				.build();
+		try {
+			final Generator generator = new Generator();
+			generator.configure( registry );
+			// a thread hands out consecutive ids from its own stripe
+			final long first = generator.generate( null, null ).toCompletableFuture().join();
+			assertThat( generator.generate( null, null ).toCompletableFuture().join() ).isEqualTo( first + 1 );
+			assertThat( generator.generate( null, null ).toCompletableFuture().join() ).isEqualTo( first + 2 );
+			assertUniqueAcrossThreads( generator );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	@Test
+	public void testPooledOptimizer() {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder().build();
+		try {
+			final Generator generator = new Generator();
+			generator.configure( registry, "pooled" );
+			// the sequence starts at 1, and is incremented by the block size
+			generator.hi.set( 1 );
+			final List<Long> ids = new ArrayList<>();
+			for ( int i = 0; i < 2 * BLOCK_SIZE + 1; i++ ) {
+				ids.add( generator.generate( null, null ).toCompletableFuture().join() );
+			}
+			// like PooledOptimizer: the first value is a block by itself,
+			// and every later value is the last id of its block
+			for ( int i = 0; i < ids.size(); i++ ) {
+				assertThat( ids.get( i ) ).isEqualTo( i + 1 );
+			}
+			assertThat( generator.fetches.get() ).isEqualTo( 3 );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	@Test
+	public void testGenerateAllWithoutBlocks() {
+		final AtomicInteger fetches = new AtomicInteger();
+		final BlockingIdentifierGenerator generator = new BlockingIdentifierGenerator() {
+			@Override
+			protected int getBlockSize() {
+				return 1;
+			}
+
+			@Override
+			protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session) {
+				throw new AssertionError( "values should be fetched together" );
+			}
+
+			@Override
+			protected CompletionStage<List<Long>> nextHiValues(ReactiveConnectionSupplier session, int count) {
+				fetches.incrementAndGet();
+				final List<Long> values = new ArrayList<>();
+				for ( long i = 1; i <= count; i++ ) {
+					values.add( i );
+				}
+				return CompletableFuture.completedFuture( values );
+			}
+		};
+		final List<Long> ids = generator.generateAll( null, Arrays.asList( "a", "b", "c" ) )
+				.toCompletableFuture().join();
+		assertThat( ids ).containsExactly( 1L, 2L, 3L );
+		assertThat( fetches.get() ).isEqualTo( 1 );
+	}
+
+	private static void assertUniqueAcrossThreads(Generator generator) throws Exception {
+		final int threads = 8;
+		final int perThread = 1000;
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<List<Long>>> futures = new ArrayList<>();
+			for ( int t = 0; t < threads; t++ ) {
+				futures.add( executor.submit( () -> {
+					final List<Long> list = new ArrayList<>();
+					for ( int i = 0; i < perThread; i++ ) {
+						list.add( generator.generate( null, null ).toCompletableFuture().join() );
+					}
+					return list;
+				} ) );
+			}
+			final Set<Long> values = new HashSet<>();
+			for ( Future<List<Long>> future : futures ) {
+				values.addAll( future.get( 30, TimeUnit.SECONDS ) );
+			}
+			assertThat( values ).hasSize( threads * perThread );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+}
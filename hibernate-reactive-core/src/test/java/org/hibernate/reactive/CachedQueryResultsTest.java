@@ -7,6 +7,7 @@
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -15,11 +16,14 @@
 import javax.persistence.QueryHint;
 import javax.persistence.Table;
 
+import org.hibernate.Hibernate;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.cfg.Environment;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.stat.Statistics;
 
 import org.junit.Test;
 
@@ -55,7 +59,9 @@ protected Configuration constructConfiguration() {
 		configuration.setProperty( AvailableSettings.HBM2DDL_IMPORT_FILES, "/import-for-querycachetest.sql" );
 		configuration.setProperty( "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider" );
 		configuration.setProperty( "hibernate.javax.cache.uri", "/ehcache.xml" );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
 		configuration.addAnnotatedClass( Fruit.class );
+		configuration.addAnnotatedClass( Vegetable.class );
 		return configuration;
 	}
 
@@ -101,6 +107,70 @@ public void testLoadFromCachedQueryResultAndRegularQuery(TestContext context) {
 		);
 	}
 
+	@Test
+	public void testQueryNotExecutedAgainWhenEntitiesAreNotCached(TestContext context) {
+		final Statistics statistics = getMutinySessionFactory().getStatistics();
+		test( context, getMutinySessionFactory()
+				.withSession( CachedQueryResultsTest::findAllWithCacheableQuery )
+				.invoke( statistics::clear )
+				// The query results are in the cache, but the entities aren't,
+				// so they must be loaded using their ids
+				.chain( () -> getMutinySessionFactory().withSession( CachedQueryResultsTest::findAllWithCacheableQuery ) )
+				.invoke( list -> {
+					assertThat( list ).containsExactly( FRUITS );
+					assertThat( list ).allMatch( fruit -> fruit.getClass() == Fruit.class );
+					assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+					assertThat( statistics.getQueryExecutionCount() ).isEqualTo( 0 );
+				} )
+		);
+	}
+
+	@Test
+	public void testExistingProxiesAreKeptWhenEntitiesAreNotCached(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( CachedQueryResultsTest::findAllWithCacheableQuery )
+				.chain( () -> getMutinySessionFactory().withSession( s -> {
+					final Fruit banana = s.getReference( Fruit.class, 1 );
+					return findAllWithCacheableQuery( s )
+							.invoke( list -> {
+								// the proxy obtained before the query is returned
+								assertThat( list.get( 0 ) ).isSameAs( banana );
+								assertThat( Hibernate.isInitialized( banana ) ).isTrue();
+								assertThat( list.get( 2 ).getClass() ).isEqualTo( Fruit.class );
+							} )
+							// and the entities loaded by the query are those of the session
+							.chain( list -> s.find( Fruit.class, 2 )
+									.invoke( tomato -> assertThat( tomato ).isSameAs( list.get( 2 ) ) ) );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testQueryExecutedAgainWhenCachedResultsAreStale(TestContext context) {
+		final Statistics statistics = getSessionFactory().getStatistics();
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Vegetable( 1, "Carrot" ), new Vegetable( 2, "Leek" ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( CachedQueryResultsTest::findAllVegetables ) )
+				// delete a row behind the back of Hibernate, so that the cached results aren't invalidated
+				.thenCompose( v -> connection() )
+				.thenCompose( connection -> connection.update( "delete from cached_vegetables where id = 2" ) )
+				.thenAccept( v -> statistics.clear() )
+				.thenCompose( v -> getSessionFactory().withSession( CachedQueryResultsTest::findAllVegetables ) )
+				.thenAccept( list -> {
+					assertThat( list ).extracting( Vegetable::getName ).containsExactly( "Carrot" );
+					assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+					assertThat( statistics.getQueryExecutionCount() ).isEqualTo( 1 );
+				} )
+				.thenCompose( v -> deleteEntities( "Vegetable" ) )
+		);
+	}
+
+	private static CompletionStage<List<Vegetable>> findAllVegetables(Stage.Session session) {
+		return session.createQuery( "from Vegetable order by name", Vegetable.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
 	private static Uni<List<Fruit>> findAllWithCacheableQuery(Mutiny.Session session) {
 		return session.createQuery( "FROM Fruit f ORDER BY f.name ASC", Fruit.class )
 				.setCacheable( true )
@@ -168,4 +238,25 @@ public String toString() {
 			return id + ":" + name;
 		}
 	}
+
+	@Entity(name = "Vegetable")
+	@Table(name = "cached_vegetables")
+	public static class Vegetable {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Vegetable() {
+		}
+
+		public Vegetable(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
 }
@@ -12,6 +12,7 @@
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.IntStream;
 
@@ -179,6 +180,42 @@ public void testLoopOnCollectionWithFilter(TestContext context) {
 		).thenAccept( v -> assertThat( looped ).containsExactly( "c" ) ) );
 	}
 
+	@Test
+	public void testLoopOverCompletedStagesCompletesImmediately() {
+		final CompletionStage<Void> loop = loop( 0, 100_000, index -> voidFuture() );
+		assertThat( loop.toCompletableFuture().isDone() ).isTrue();
+		final CompletionStage<Integer> total = total( 0, 100_000, index -> completedFuture( 1 ) );
+		assertThat( total.toCompletableFuture().getNow( null ) ).isEqualTo( 100_000 );
+	}
+
+	@Test
+	public void testLoopWithPendingStages(TestContext context) {
+		final CompletableFuture<Void> pending = new CompletableFuture<>();
+		final CompletionStage<Void> loop = loop( 0, entries.length, index -> {
+			looped.add( entries[index] );
+			return index == 2 ? pending : voidFuture();
+		} );
+		// the loop waits for the pending stage
+		assertThat( looped ).containsExactly( "a", "b", "c" );
+		pending.complete( null );
+		test( context, loop.thenAccept( v -> assertThat( looped ).containsExactly( entries ) ) );
+	}
+
+	@Test
+	public void testTotalWithPendingStages(TestContext context) {
+		final CompletableFuture<Integer> pending = new CompletableFuture<>();
+		final CompletionStage<Integer> total = total( iterator( entries ), entry -> {
+			looped.add( entry );
+			return entry.equals( "b" ) ? pending : completedFuture( 1 );
+		} );
+		assertThat( looped ).containsExactly( "a", "b" );
+		pending.complete( 10 );
+		test( context, total.thenAccept( sum -> {
+			assertThat( sum ).isEqualTo( 14 );
+			assertThat( looped ).containsExactly( entries );
+		} ) );
+	}
+
 	private static Iterator<Object> iterator(Object[] entries) {
 		return asList( entries ).iterator();
 	}
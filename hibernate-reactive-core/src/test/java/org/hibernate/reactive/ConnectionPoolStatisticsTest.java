@@ -0,0 +1,84 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.pool.ReactiveConnectionPoolStatistics;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the metrics collected by the built-in reactive connection pool.
+ */
+public class ConnectionPoolStatisticsTest extends BaseReactiveTest {
+
+	private static final long WAIT_MILLIS = 50;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		// a single connection, so that a second request has to wait
+		configuration.setProperty( Settings.POOL_SIZE, "1" );
+		return configuration;
+	}
+
+	@Test
+	public void testAcquireAndRelease(TestContext context) {
+		final ReactiveConnectionPoolStatistics statistics = getSessionFactory().getConnectionPoolStatistics();
+		assertThat( statistics ).isNotNull();
+		assertThat( getMutinySessionFactory().getConnectionPoolStatistics() ).isSameAs( statistics );
+
+		final long acquired = statistics.getAcquireCount();
+		final long released = statistics.getReleaseCount();
+		final long inUse = statistics.getConnectionsInUse();
+		test( context, factoryManager.getReactiveConnectionPool().getConnection()
+				.thenCompose( connection -> {
+					assertThat( statistics.getAcquireCount() ).isEqualTo( acquired + 1 );
+					assertThat( statistics.getConnectionsInUse() ).isEqualTo( inUse + 1 );
+					return connection.close();
+				} )
+				.thenAccept( v -> {
+					assertThat( statistics.getReleaseCount() ).isEqualTo( released + 1 );
+					assertThat( statistics.getConnectionsInUse() ).isEqualTo( inUse );
+					assertThat( statistics.getPendingAcquireCount() ).isEqualTo( 0 );
+					assertThat( Arrays.stream( statistics.getAcquireTimeHistogram() ).sum() )
+							.isEqualTo( statistics.getAcquireCount() );
+					assertThat( statistics.getAcquireTimeHistogram() )
+							.hasSize( statistics.getAcquireTimeHistogramBounds().length + 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testWaitIsCounted(TestContext context) {
+		final ReactiveConnectionPoolStatistics statistics = getSessionFactory().getConnectionPoolStatistics();
+		final ReactiveConnectionPool pool = factoryManager.getReactiveConnectionPool();
+
+		final long total = statistics.getAcquireTimeTotal();
+		test( context, pool.getConnection()
+				.thenCompose( first -> {
+					final CompletionStage<ReactiveConnection> second = pool.getConnection();
+					vertxContextRule.vertx().setTimer( WAIT_MILLIS, id -> first.close() );
+					return second;
+				} )
+				.thenCompose( second -> {
+					assertThat( statistics.getAcquireTimeTotal() ).isGreaterThanOrEqualTo( total + WAIT_MILLIS );
+					assertThat( statistics.getAcquireTimeMax() ).isGreaterThanOrEqualTo( WAIT_MILLIS );
+					return second.close();
+				} )
+		);
+	}
+}
@@ -0,0 +1,212 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.jdbc.internal.Formatter;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.pool.impl.DefaultSqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests fetching many lazy associations at once, without a batch size
+ */
+public class FetchAllTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Author.class );
+		configuration.addAnnotatedClass( Book.class );
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, CountingPool.class.getName() );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.createQuery( "delete from Book" ).executeUpdate()
+						.thenCompose( v -> s.createQuery( "delete from Author" ).executeUpdate() ) ) );
+	}
+
+	private static List<Author> authors() {
+		final List<Author> authors = new ArrayList<>();
+		for ( int i = 0; i < 4; i++ ) {
+			final Author author = new Author( i, "Author " + i );
+			for ( int j = 0; j <= i; j++ ) {
+				author.books.add( new Book( i * 10 + j, "Book " + i + "." + j, author ) );
+			}
+			authors.add( author );
+		}
+		return authors;
+	}
+
+	@Test
+	public void testFetchAllCollections(TestContext context) {
+		final List<Author> authors = authors();
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( authors.toArray() ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "from Author order by id", Author.class )
+						.getResultList()
+						.thenCompose( result -> {
+							final List<List<Book>> books = result.stream()
+									.map( author -> author.books )
+									.collect( Collectors.toList() );
+							books.forEach( list -> assertThat( Hibernate.isInitialized( list ) ).isFalse() );
+							final int before = CountingPool.statements.get();
+							return s.fetchAll( books )
+									.thenAccept( fetched -> {
+										// all the collections are loaded by a single query
+										assertThat( CountingPool.statements.get() - before ).isEqualTo( 1 );
+										assertThat( fetched ).hasSize( result.size() );
+										for ( int i = 0; i < result.size(); i++ ) {
+											assertThat( Hibernate.isInitialized( result.get( i ).books ) ).isTrue();
+											assertThat( fetched.get( i ) ).hasSize( i + 1 );
+										}
+									} );
+						} ) ) )
+		);
+	}
+
+	@Test
+	public void testFetchAllProxies(TestContext context) {
+		final List<Author> authors = authors();
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( authors.toArray() ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "from Book order by id", Book.class )
+						.getResultList()
+						.thenCompose( books -> {
+							final List<Author> proxies = books.stream()
+									.map( book -> book.author )
+									.collect( Collectors.toList() );
+							proxies.forEach( author -> assertThat( Hibernate.isInitialized( author ) ).isFalse() );
+							final int before = CountingPool.statements.get();
+							return Stage.fetchAll( proxies )
+									.thenAccept( fetched -> {
+										// all the proxies are initialized by a single query
+										assertThat( CountingPool.statements.get() - before ).isEqualTo( 1 );
+										assertThat( fetched ).hasSize( books.size() );
+										for ( int i = 0; i < books.size(); i++ ) {
+											assertThat( Hibernate.isInitialized( books.get( i ).author ) ).isTrue();
+											assertThat( fetched.get( i ).getName() )
+													.isEqualTo( "Author " + books.get( i ).id / 10 );
+										}
+									} );
+						} ) ) )
+		);
+	}
+
+	@Test
+	public void testFetchAllWithMutiny(TestContext context) {
+		final List<Author> authors = authors();
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( authors.toArray() ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "from Book order by id", Book.class )
+						.getResultList()
+						.chain( books -> Mutiny.fetchAll( books.stream()
+								.map( book -> book.author )
+								.collect( Collectors.toList() ) ) )
+						.chain( proxies -> s.fetchAll( proxies.stream()
+								.map( Author::getBooks )
+								.collect( Collectors.toList() ) ) ) ) )
+				.invoke( books -> {
+					assertThat( books ).allMatch( Hibernate::isInitialized );
+					// the first book belongs to the first author, who has one book
+					assertThat( books.get( 0 ) ).hasSize( 1 );
+				} )
+		);
+	}
+
+	public static class CountingPool extends DefaultSqlClientPool {
+		static final AtomicInteger statements = new AtomicInteger();
+
+		@Override
+		protected SqlStatementLogger getSqlStatementLogger() {
+			final SqlStatementLogger logger = super.getSqlStatementLogger();
+			return new SqlStatementLogger() {
+				@Override
+				public void logStatement(String statement, Formatter formatter) {
+					statements.incrementAndGet();
+					logger.logStatement( statement, formatter );
+				}
+			};
+		}
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "FetchAllAuthor")
+	public static class Author {
+		@Id
+		Integer id;
+
+		String name;
+
+		@OneToMany(mappedBy = "author", cascade = CascadeType.PERSIST)
+		List<Book> books = new ArrayList<>();
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Author() {
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "FetchAllBook")
+	public static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		Book() {
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.COCKROACHDB;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Tests that identity inserts of the same entity, which are sent to
+ * the database in a single batch, get the ids returned for each row.
+ */
+public class IdentityInsertBatchTest extends BaseReactiveTest {
+
+	@Rule
+	public DatabaseSelectionRule rule = DatabaseSelectionRule.runOnlyFor( POSTGRESQL, COCKROACHDB );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Node.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.createQuery( "update Node set parent = null" ).executeUpdate()
+						.thenCompose( v -> s.createQuery( "delete from Node" ).executeUpdate() ) ) );
+	}
+
+	@Test
+	public void testIdsAreAssignedInOrder(TestContext context) {
+		final Node root = new Node( "root" );
+		final List<Node> nodes = new ArrayList<>();
+		nodes.add( root );
+		for ( int i = 0; i < 10; i++ ) {
+			// children of the root must wait for its id
+			nodes.add( new Node( "child " + i, root ) );
+		}
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> loop( nodes, s::persist ) )
+				.thenAccept( v -> {
+					final Set<Long> ids = new HashSet<>();
+					for ( Node node : nodes ) {
+						assertThat( node.getId() ).isNotNull();
+						ids.add( node.getId() );
+					}
+					assertThat( ids ).hasSize( nodes.size() );
+				} )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "select n.id, n.name from Node n where n.parent.id = :id order by n.name", Object[].class )
+						.setParameter( "id", root.getId() )
+						.getResultList() ) )
+				.thenAccept( rows -> {
+					// every row got the id returned for it
+					assertThat( rows ).hasSize( nodes.size() - 1 );
+					for ( int i = 0; i < rows.size(); i++ ) {
+						final Node child = nodes.get( i + 1 );
+						assertThat( rows.get( i ) ).containsExactly( child.getId(), child.getName() );
+					}
+				} )
+		);
+	}
+
+	@Entity(name = "Node")
+	@Table(name = "IdentityBatchNode")
+	public static class Node {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+		private String name;
+		@ManyToOne
+		private Node parent;
+
+		public Node() {
+		}
+
+		public Node(String name) {
+			this.name = name;
+		}
+
+		public Node(String name, Node parent) {
+			this.name = name;
+			this.parent = parent;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Node getParent() {
+			return parent;
+		}
+
+		public void setParent(Node parent) {
+			this.parent = parent;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.containers.DatabaseConfiguration;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.pool.impl.MultitenantSqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+import io.vertx.sqlclient.Pool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.dbType;
+
+/**
+ * Tests the per-tenant pools of {@link MultitenantSqlClientPool}. Every
+ * "tenant" connects to the test database, since the URL template has no
+ * placeholder.
+ */
+public class MultitenantPoolTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.TENANT_URL_TEMPLATE, DatabaseConfiguration.getJdbcUrl() );
+		configuration.setProperty( Settings.POOL_SIZE, "2" );
+		// room for the default pool and one tenant pool
+		configuration.setProperty( Settings.MAX_TOTAL_POOL_SIZE, "4" );
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, CountingPool.class.getName() );
+		return configuration;
+	}
+
+	private static ReactiveConnectionPool pool() {
+		return factoryManager.getReactiveConnectionPool();
+	}
+
+	@Test
+	public void testPoolIsMultitenant(TestContext context) {
+		assertThat( pool() ).isInstanceOf( MultitenantSqlClientPool.class );
+	}
+
+	@Test
+	public void testIdleTenantPoolIsEvicted(TestContext context) {
+		test( context, pool().getConnection( "tenant1" )
+				.thenCompose( connection -> connection.close() )
+				// there's only room for tenant2 if the pool of tenant1 is closed
+				.thenCompose( v -> pool().getConnection( "tenant2" ) )
+				.thenCompose( connection -> connection.close() )
+		);
+	}
+
+	@Test
+	public void testBudgetExhausted(TestContext context) {
+		test( context, pool().getConnection( "tenant3" )
+				.thenCompose( connection -> pool().getConnection( "tenant4" )
+						.handle( (other, e) -> {
+							assertThat( other ).isNull();
+							assertThat( e ).hasCauseInstanceOf( HibernateException.class );
+							return null;
+						} )
+						.thenCompose( v -> connection.close() ) )
+		);
+	}
+
+	@Test
+	public void testOutsideTransactionUsesTenantPool(TestContext context) {
+		final int before = CountingPool.defaultPoolQueries.get();
+		test( context, pool().getConnection( "tenant5" )
+				.thenCompose( connection -> connection
+						.selectJdbcOutsideTransaction( selectCurrentTimestampQuery(), new Object[0] )
+						.thenAccept( resultSet -> assertThat( CountingPool.defaultPoolQueries.get() ).isEqualTo( before ) )
+						.thenCompose( v -> connection.close() ) )
+		);
+	}
+
+	private static String selectCurrentTimestampQuery() {
+		switch ( dbType() ) {
+			case DB2:
+				return "select current_timestamp from sysibm.dual";
+			case ORACLE:
+				return "select current_date from dual";
+			default:
+				return "select current_timestamp";
+		}
+	}
+
+	/**
+	 * Counts the statements sent directly to the default pool, which is
+	 * the pool for connections with no tenant.
+	 */
+	public static class CountingPool extends MultitenantSqlClientPool {
+		static final AtomicInteger defaultPoolQueries = new AtomicInteger();
+
+		@Override
+		protected Pool createPool(URI uri) {
+			final Pool pool = super.createPool( uri );
+			return (Pool) Proxy.newProxyInstance(
+					Pool.class.getClassLoader(),
+					new Class<?>[] { Pool.class },
+					(proxy, method, args) -> {
+						if ( method.getName().equals( "query" ) || method.getName().equals( "preparedQuery" ) ) {
+							defaultPoolQueries.incrementAndGet();
+						}
+						try {
+							return method.invoke( pool, args );
+						}
+						catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+			);
+		}
+	}
+}
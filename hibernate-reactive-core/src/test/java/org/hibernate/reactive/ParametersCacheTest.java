@@ -0,0 +1,68 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import org.hibernate.dialect.MySQL8Dialect;
+import org.hibernate.reactive.pool.impl.Parameters;
+import org.hibernate.reactive.pool.impl.PostgresParameters;
+import org.hibernate.reactive.pool.impl.SQLServerParameters;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the cache of processed SQL in {@link Parameters}
+ */
+public class ParametersCacheTest {
+
+	@Test
+	public void testProcessedSqlIsCached() {
+		final Parameters parameters = PostgresParameters.INSTANCE;
+		// make the SQL unique, since the cache is shared
+		final String sql = "select * from ParametersCacheTest where id = ? and name = ? -- " + System.nanoTime();
+
+		final long misses = parameters.getCacheMissCount();
+		final long hits = parameters.getCacheHitCount();
+
+		final String processed = parameters.process( sql );
+		assertThat( processed ).startsWith( "select * from ParametersCacheTest where id = $1 and name = $2" );
+		assertThat( parameters.process( sql, 2 ) ).isSameAs( processed );
+
+		assertThat( parameters.getCacheMissCount() - misses ).isEqualTo( 1 );
+		assertThat( parameters.getCacheHitCount() - hits ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testLimitDependsOnParameterPositions() {
+		final Parameters parameters = PostgresParameters.INSTANCE;
+		final String sql = "select * from ParametersCacheTest" + System.nanoTime() + " where id > ? limit ? offset ?";
+
+		assertThat( parameters.processLimit( sql, new Object[3], true ) ).endsWith( " limit $2 offset $3" );
+		assertThat( parameters.processLimit( sql, new Object[3], true ) ).endsWith( " limit $2 offset $3" );
+		assertThat( parameters.processLimit( sql, new Object[2], false ) ).endsWith( " limit $2" );
+	}
+
+	@Test
+	public void testSqlServerTopStillShiftsValues() {
+		final Parameters parameters = SQLServerParameters.INSTANCE;
+		final String sql = "select top(?) * from ParametersCacheTest" + System.nanoTime() + " where id > ?";
+
+		for ( int i = 0; i < 2; i++ ) {
+			final Object[] values = { 1, 10 };
+			assertThat( parameters.processLimit( sql, values, false ) ).startsWith( "select top(@P2)" );
+			assertThat( values ).containsExactly( 10, 1 );
+		}
+	}
+
+	@Test
+	public void testParameterCount() {
+		final String sql = "update ParametersCacheTest" + System.nanoTime() + " set name = ?, label = '?' where id = ? and version = ?";
+		assertThat( PostgresParameters.INSTANCE.parameterCount( PostgresParameters.INSTANCE.process( sql ) ) ).isEqualTo( 3 );
+		assertThat( SQLServerParameters.INSTANCE.parameterCount( SQLServerParameters.INSTANCE.process( sql ) ) ).isEqualTo( 3 );
+		assertThat( Parameters.instance( new MySQL8Dialect() ).parameterCount( sql ) ).isEqualTo( 3 );
+	}
+}
@@ -0,0 +1,167 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.SecondaryTable;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.impl.OracleParameters;
+import org.hibernate.reactive.pool.impl.PostgresParameters;
+import org.hibernate.reactive.pool.impl.SQLServerParameters;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.dbType;
+
+/**
+ * Tests the execution of several independent statements
+ * at once on a single connection.
+ */
+public class PipelinedConnectionTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Part.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Part" ) );
+	}
+
+	@Test
+	public void testPipelinedInserts(TestContext context) {
+		final String insertSql = process( "insert into PipelinedPart (id, name) values (?, ?)" );
+		final String insertDetailsSql = process( "insert into PipelinedPartDetails (id, description) values (?, ?)" );
+		final List<Integer> completed = new ArrayList<>();
+		test( context, connection()
+				.thenCompose( connection -> connection.pipeline(
+						0, 10,
+						// each row of the secondary table must be inserted after the row it references
+						i -> ( i % 2 == 0
+								? connection.update( insertSql, new Object[] { i / 2, "Part " + i / 2 } )
+								: connection.update( insertDetailsSql, new Object[] { i / 2, "Description " + i / 2 } ) )
+								.thenAccept( rowCount -> {
+									context.assertEquals( 1, rowCount );
+									completed.add( i );
+								} )
+				) )
+				.thenCompose( v -> openSession() )
+				.thenCompose( s -> s.createQuery( "from Part order by id", Part.class ).getResultList() )
+				.thenAccept( parts -> {
+					assertThat( parts ).hasSize( 5 );
+					assertThat( parts.get( 4 ).getDescription() ).isEqualTo( "Description 4" );
+					// the operations complete in the order in which they were submitted
+					assertThat( completed ).containsExactly( 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 );
+				} )
+		);
+	}
+
+	@Test
+	public void testPipelineFailure(TestContext context) {
+		final String insertSql = process( "insert into PipelinedPart (id, name) values (?, ?)" );
+		final String insertDetailsSql = process( "insert into PipelinedPartDetails (id, description) values (?, ?)" );
+		test( context, connection()
+				.thenCompose( connection -> connection.pipeline(
+						0, 3,
+						i -> i == 1
+								? connection.update( insertDetailsSql, new Object[] { 1, "Description" } )
+								// the third statement violates the primary key
+								: connection.update( insertSql, new Object[] { 1, "Part " + i } )
+				) )
+				.handle( (v, e) -> {
+					context.assertNotNull( e );
+					return null;
+				} )
+		);
+	}
+
+	@Test
+	public void testPersistAndFindWithSecondaryTable(TestContext context) {
+		test( context, openSession()
+				.thenCompose( s -> s.persist( new Part( 1, "Wheel", "Round" ), new Part( 2, "Axle", "Long" ) )
+						.thenCompose( v -> s.flush() ) )
+				.thenCompose( v -> openSession() )
+				.thenCompose( s -> s.find( Part.class, 1, 2, 3 ) )
+				.thenAccept( parts -> {
+					assertThat( parts ).hasSize( 3 );
+					assertThat( parts.get( 0 ).getDescription() ).isEqualTo( "Round" );
+					assertThat( parts.get( 1 ).getDescription() ).isEqualTo( "Long" );
+					assertThat( parts.get( 2 ) ).isNull();
+				} )
+		);
+	}
+
+	private String process(String sql) {
+		switch ( dbType() ) {
+			case POSTGRESQL:
+			case COCKROACHDB:
+				return PostgresParameters.INSTANCE.process( sql );
+			case SQLSERVER:
+				return SQLServerParameters.INSTANCE.process( sql );
+			case ORACLE:
+				return OracleParameters.INSTANCE.process( sql );
+			default:
+				return sql;
+		}
+	}
+
+	@Entity(name = "Part")
+	@Table(name = "PipelinedPart")
+	@SecondaryTable(name = "PipelinedPartDetails")
+	public static class Part {
+		@Id
+		private Integer id;
+		private String name;
+		@Column(table = "PipelinedPartDetails")
+		private String description;
+
+		public Part() {
+		}
+
+		public Part(Integer id, String name, String description) {
+			this.id = id;
+			this.name = name;
+			this.description = description;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+	}
+}
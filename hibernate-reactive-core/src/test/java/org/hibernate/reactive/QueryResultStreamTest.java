@@ -0,0 +1,148 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.vertx.ext.unit.TestContext;
+import org.reactivestreams.FlowAdapters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.COCKROACHDB;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.MYSQL;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+
+/**
+ * Tests streaming the results of a query using a database cursor
+ */
+public class QueryResultStreamTest extends BaseReactiveTest {
+
+	private static final int ITEMS = 25;
+
+	@Rule
+	public DatabaseSelectionRule rule = DatabaseSelectionRule.runOnlyFor( POSTGRESQL, COCKROACHDB, MYSQL );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Item.class );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		List<Object> items = new ArrayList<>();
+		for ( int i = 0; i < ITEMS; i++ ) {
+			items.add( new Item( i, "Item " + i ) );
+		}
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( s -> s.insertAll( items.toArray() ) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Item" ) );
+	}
+
+	@Test
+	public void testMutinyStreamWithStatelessSession(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( s -> s.createQuery( "from Item order by id", Item.class )
+						.setFetchSize( 10 )
+						.getResultStream()
+						.collect().asList() )
+				.invoke( list -> {
+					assertThat( list ).hasSize( ITEMS );
+					for ( int i = 0; i < ITEMS; i++ ) {
+						assertThat( list.get( i ).getId() ).isEqualTo( i );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testMutinyStreamWithSession(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.createQuery( "select name from Item where id < :max order by id", String.class )
+						.setParameter( "max", 12 )
+						.setFetchSize( 5 )
+						.getResultStream()
+						.collect().asList() )
+				.invoke( list -> assertThat( list ).hasSize( 12 ).startsWith( "Item 0", "Item 1" ) )
+		);
+	}
+
+	@Test
+	public void testMutinyStreamWithMaxResults(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.createQuery( "from Item order by id", Item.class )
+						.setMaxResults( 7 )
+						.setFetchSize( 3 )
+						.getResultStream()
+						.collect().asList() )
+				// the stream stops after maxResults, even with more rows to fetch
+				.invoke( list -> assertThat( list ).extracting( Item::getId ).containsExactly( 0, 1, 2, 3, 4, 5, 6 ) )
+		);
+	}
+
+	@Test
+	public void testStageStream(TestContext context) {
+		test( context, getSessionFactory()
+				.withStatelessTransaction( s -> Multi.createFrom()
+						.publisher( FlowAdapters.toPublisher( s.createQuery( "from Item", Item.class )
+								.setFetchSize( 4 )
+								.getResultStream() ) )
+						.collect().asList()
+						.subscribeAsCompletionStage() )
+				.thenAccept( list -> assertThat( list ).hasSize( ITEMS ) )
+		);
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "StreamItem")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -10,6 +10,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.ColumnResult;
+import javax.persistence.ConstructorResult;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
@@ -508,6 +509,56 @@ public void testNamedNativeProjectionQuery(TestContext context) {
 		);
 	}
 
+	@Test
+	public void testConstructorProjectionQuery(TestContext context) {
+		Author author1 = new Author("Iain M. Banks");
+		Author author2 = new Author("Neal Stephenson");
+		Book book1 = new Book("1-85723-235-6", "Feersum Endjinn", author1);
+		Book book2 = new Book("0-380-97346-4", "Cryptonomicon", author2);
+		Book book3 = new Book("0-553-08853-X", "Snow Crash", author2);
+		author1.books.add(book1);
+		author2.books.add(book2);
+		author2.books.add(book3);
+
+		test(context,
+				openSession()
+						.thenCompose( session -> session.persist(author1, author2)
+								.thenCompose( v -> session.flush() )
+						)
+						.thenCompose( v -> openSession() )
+						.thenCompose( session -> session.createQuery(
+								"select new " + Summary.class.getName() + "(b.title, a.name) from Book b join b.author a order by b.isbn",
+								Summary.class ).getResultList() )
+						.thenAccept( summaries -> {
+							context.assertEquals( 3, summaries.size() );
+							context.assertEquals( "Cryptonomicon", summaries.get( 0 ).title );
+							context.assertEquals( "Neal Stephenson", summaries.get( 0 ).author );
+							context.assertEquals( "Feersum Endjinn", summaries.get( 2 ).title );
+							context.assertEquals( "Iain M. Banks", summaries.get( 2 ).author );
+						} )
+
+						.thenCompose( v -> openSession() )
+						.thenCompose( session -> session.createQuery(
+								"select new " + Summary.class.getName() + "(b.title, a.name) from Book b join b.author a order by b.isbn",
+								Summary.class )
+								.setFirstResult( 1 )
+								.setMaxResults( 1 )
+								.getResultList() )
+						.thenAccept( summaries -> {
+							context.assertEquals( 1, summaries.size() );
+							context.assertEquals( "Snow Crash", summaries.get( 0 ).title );
+						} )
+
+						.thenCompose( v -> openSession() )
+						.thenCompose( session -> session.createNamedQuery("summary (sql)", Summary.class).getResultList() )
+						.thenAccept( summaries -> {
+							context.assertEquals( 3, summaries.size() );
+							context.assertEquals( "Cryptonomicon", summaries.get( 0 ).title );
+							context.assertEquals( "Neal Stephenson", summaries.get( 0 ).author );
+						} )
+		);
+	}
+
 	@Test
 	public void testScalarQuery(TestContext context) {
 		test(context, openSession()
@@ -589,6 +640,12 @@ public void testSingleResultMultipleException(TestContext context) {
 			resultSetMapping = "title,author"
 	)
 
+	@NamedNativeQuery(
+			name = "summary (sql)",
+			query = "select b.title, a.name from books b join authors a on author_id=a.id order by b.isbn",
+			resultSetMapping = "summary"
+	)
+
 	@NamedQuery(
 			name = "title,author (hql)",
 			query = "select b.title, a.name from Book b join b.author a order by b.isbn"
@@ -599,6 +656,11 @@ public void testSingleResultMultipleException(TestContext context) {
 			@ColumnResult(name = "name",type=String.class)
 	})
 
+	@SqlResultSetMapping(name="summary", classes=@ConstructorResult(targetClass = Summary.class, columns={
+			@ColumnResult(name = "title",type=String.class),
+			@ColumnResult(name = "name",type=String.class)
+	}))
+
 	@Entity(name="Author")
 	@Table(name="authors")
 	static class Author {
@@ -639,4 +701,14 @@ static class Book {
 		Book() {}
 	}
 
+	public static class Summary {
+		final String title;
+		final String author;
+
+		public Summary(String title, String author) {
+			this.title = title;
+			this.author = author;
+		}
+	}
+
 }
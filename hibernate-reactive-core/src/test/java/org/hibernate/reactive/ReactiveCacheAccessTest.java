@@ -0,0 +1,211 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.reactive.cache.ReactiveEntityDataAccess;
+import org.hibernate.reactive.cache.ReactiveQueryResultsCache;
+import org.hibernate.reactive.cache.impl.BlockingCacheAccess;
+import org.hibernate.type.Type;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+
+/**
+ * Check that the second-level cache and the query cache are accessed
+ * via the {@link ReactiveCacheAccess} service.
+ */
+public class ReactiveCacheAccessTest extends BaseReactiveTest {
+
+	private static final CountingCacheAccess CACHE_ACCESS = new CountingCacheAccess();
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Cached.class );
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "true" );
+		configuration.setProperty( Environment.CACHE_REGION_FACTORY, "org.hibernate.cache.jcache.JCacheRegionFactory" );
+		configuration.setProperty( "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider" );
+		configuration.setProperty( "hibernate.javax.cache.uri", "/ehcache.xml" );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		builder.addService( ReactiveCacheAccess.class, CACHE_ACCESS );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.createQuery( "delete from Cached" ).executeUpdate() ) );
+	}
+
+	@Test
+	public void testQueryCache(TestContext context) {
+		CACHE_ACCESS.reset();
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Cached( 1, "one" ), new Cached( 2, "two" ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "from Cached order by id", Cached.class )
+						.setCacheable( true )
+						.getResultList() ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "from Cached order by id", Cached.class )
+						.setCacheable( true )
+						.getResultList() ) )
+				.thenAccept( list -> {
+					assertThat( list ).extracting( c -> c.name ).containsExactly( "one", "two" );
+					assertThat( CACHE_ACCESS.queryGets.get() ).isEqualTo( 2 );
+					assertThat( CACHE_ACCESS.queryPuts.get() ).isEqualTo( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testEntityCacheLockedOnUpdateAndDelete(TestContext context) {
+		CACHE_ACCESS.reset();
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Cached( 1, "one" ) ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s
+						.find( Cached.class, 1 )
+						.thenAccept( c -> c.name = "uno" ) ) )
+				.thenAccept( v -> assertThat( CACHE_ACCESS.locks.get() ).isEqualTo( 1 ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s
+						.find( Cached.class, 1 )
+						.thenCompose( s::remove ) ) )
+				.thenAccept( v -> assertThat( CACHE_ACCESS.locks.get() ).isEqualTo( 2 ) )
+		);
+	}
+
+	@Test
+	public void testEntityCacheReadOnFind(TestContext context) {
+		CACHE_ACCESS.reset();
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Cached( 1, "one" ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Cached.class, 1 ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Cached.class, 1 ) ) )
+				.thenAccept( cached -> {
+					assertThat( cached.name ).isEqualTo( "one" );
+					assertThat( CACHE_ACCESS.entityGets.get() ).isEqualTo( 2 );
+				} )
+		);
+	}
+
+	private static class CountingCacheAccess implements ReactiveCacheAccess {
+		final AtomicInteger queryGets = new AtomicInteger();
+		final AtomicInteger queryPuts = new AtomicInteger();
+		final AtomicInteger locks = new AtomicInteger();
+		final AtomicInteger entityGets = new AtomicInteger();
+
+		void reset() {
+			queryGets.set( 0 );
+			queryPuts.set( 0 );
+			locks.set( 0 );
+			entityGets.set( 0 );
+		}
+
+		@Override
+		public ReactiveEntityDataAccess getEntityDataAccess(EntityPersister persister) {
+			final ReactiveEntityDataAccess delegate = BlockingCacheAccess.INSTANCE.getEntityDataAccess( persister );
+			return new ReactiveEntityDataAccess() {
+				@Override
+				public Object generateCacheKey(Object id, EntityPersister persister, SessionFactoryImplementor factory, String tenantIdentifier) {
+					return delegate.generateCacheKey( id, persister, factory, tenantIdentifier );
+				}
+
+				@Override
+				public CompletionStage<Object> get(SharedSessionContractImplementor session, Object key) {
+					entityGets.incrementAndGet();
+					return delegate.get( session, key );
+				}
+
+				@Override
+				public CompletionStage<SoftLock> lockItem(SharedSessionContractImplementor session, Object key, Object version) {
+					locks.incrementAndGet();
+					return delegate.lockItem( session, key, version );
+				}
+
+				@Override
+				public CompletionStage<Void> unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+					return delegate.unlockItem( session, key, lock );
+				}
+
+				@Override
+				public CompletionStage<Void> remove(SharedSessionContractImplementor session, Object key) {
+					return delegate.remove( session, key );
+				}
+			};
+		}
+
+		@Override
+		public ReactiveQueryResultsCache getQueryResultsCache(SessionFactoryImplementor factory, String regionName) {
+			final ReactiveQueryResultsCache delegate = BlockingCacheAccess.INSTANCE.getQueryResultsCache( factory, regionName );
+			return new ReactiveQueryResultsCache() {
+				@Override
+				public String getRegionName() {
+					return delegate.getRegionName();
+				}
+
+				@Override
+				public CompletionStage<Boolean> put(QueryKey key, List<?> result, Type[] returnTypes, SharedSessionContractImplementor session) {
+					queryPuts.incrementAndGet();
+					return delegate.put( key, result, returnTypes, session );
+				}
+
+				@Override
+				public CompletionStage<List<?>> get(QueryKey key, Set<Serializable> spaces, Type[] returnTypes, SharedSessionContractImplementor session) {
+					queryGets.incrementAndGet();
+					return delegate.get( key, spaces, returnTypes, session );
+				}
+			};
+		}
+	}
+
+	@Entity(name = "Cached")
+	@Table(name = "CachedEntity")
+	@Cacheable
+	@Cache(usage = READ_WRITE)
+	public static class Cached {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Cached(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Cached() {
+		}
+	}
+}
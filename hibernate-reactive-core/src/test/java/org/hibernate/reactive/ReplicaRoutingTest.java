@@ -0,0 +1,169 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.containers.DatabaseConfiguration;
+import org.hibernate.reactive.pool.impl.ReplicaRoutingSqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+import io.vertx.sqlclient.Pool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that read-only queries executed outside a transaction are sent
+ * to a read replica. The "replica" is just the test database itself.
+ */
+public class ReplicaRoutingTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, CountingPool.class.getName() );
+		configuration.setProperty( Settings.REPLICA_URLS, DatabaseConfiguration.getJdbcUrl() );
+		configuration.setProperty( Settings.REPLICA_CHECK_PERIOD, "0" );
+		configuration.addAnnotatedClass( Article.class );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getSessionFactory().withTransaction( (s, tx) -> s.persist(
+				new Article( 1, "first" ),
+				new Article( 2, "second" )
+		) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Article" ) );
+	}
+
+	@Test
+	public void testReadOnlyQueryUsesReplica(TestContext context) {
+		final int before = CountingPool.replicaQueries.get();
+		test( context, openSession()
+				.thenCompose( s -> s.createQuery( "from Article order by id", Article.class )
+						.setReadOnly( true )
+						.getResultList() )
+				.thenAccept( articles -> {
+					assertThat( articles ).hasSize( 2 );
+					assertThat( CountingPool.replicaQueries.get() - before ).isEqualTo( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testReadOnlySessionUsesReplica(TestContext context) {
+		final int before = CountingPool.replicaQueries.get();
+		test( context, openSession()
+				.thenCompose( s -> s.setDefaultReadOnly( true ).find( Article.class, 1 ) )
+				.thenAccept( article -> {
+					assertThat( article.getTitle() ).isEqualTo( "first" );
+					assertThat( CountingPool.replicaQueries.get() - before ).isEqualTo( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testQueryInReadOnlySessionUsesReplica(TestContext context) {
+		final int before = CountingPool.replicaQueries.get();
+		test( context, openSession()
+				.thenCompose( s -> s.setDefaultReadOnly( true )
+						.createQuery( "from Article order by id", Article.class )
+						.getResultList() )
+				.thenAccept( articles -> {
+					assertThat( articles ).hasSize( 2 );
+					assertThat( CountingPool.replicaQueries.get() - before ).isEqualTo( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testStatelessReadUsesReplica(TestContext context) {
+		final int before = CountingPool.replicaQueries.get();
+		test( context, openStatelessSession()
+				.thenCompose( s -> s.get( Article.class, 2 ) )
+				.thenAccept( article -> {
+					assertThat( article.getTitle() ).isEqualTo( "second" );
+					assertThat( CountingPool.replicaQueries.get() - before ).isEqualTo( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testTransactionUsesPrimary(TestContext context) {
+		final int before = CountingPool.replicaQueries.get();
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.createQuery( "from Article", Article.class )
+						.setReadOnly( true )
+						.getResultList() )
+				.thenCompose( articles -> openSession() )
+				// a query which isn't read-only
+				.thenCompose( s -> s.createQuery( "from Article", Article.class ).getResultList() )
+				.thenAccept( articles -> {
+					assertThat( articles ).hasSize( 2 );
+					assertThat( CountingPool.replicaQueries.get() - before ).isEqualTo( 0 );
+				} )
+		);
+	}
+
+	public static class CountingPool extends ReplicaRoutingSqlClientPool {
+		static final AtomicInteger replicaQueries = new AtomicInteger();
+
+		@Override
+		protected Pool getReplicaPool() {
+			final Pool replica = super.getReplicaPool();
+			if ( replica != null ) {
+				replicaQueries.incrementAndGet();
+			}
+			return replica;
+		}
+	}
+
+	@Entity(name = "Article")
+	@Table(name = "ReplicaArticle")
+	public static class Article {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Article() {
+		}
+
+		public Article(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+}
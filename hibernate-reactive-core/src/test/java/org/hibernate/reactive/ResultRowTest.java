@@ -0,0 +1,113 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests reading the rows of a {@link org.hibernate.reactive.pool.ReactiveConnection.Result}
+ * without copying them
+ */
+public class ResultRowTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Reading.class );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getSessionFactory().withTransaction( (s, tx) -> s.persist(
+				new Reading( 1L, "first", 1.5 ),
+				new Reading( 2L, "second", 2.5 ),
+				new Reading( 3L, "third", 3.5 )
+		) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Reading" ) );
+	}
+
+	@Test
+	public void testForEachRow(TestContext context) {
+		final List<String> labels = new ArrayList<>();
+		final List<Long> ids = new ArrayList<>();
+		test( context, connection()
+				.thenCompose( connection -> connection.select( "select id, label, amount from ResultRowReading order by id" ) )
+				.thenAccept( result -> {
+					assertThat( result.size() ).isEqualTo( 3 );
+					result.forEachRow( row -> {
+						assertThat( row.size() ).isEqualTo( 3 );
+						ids.add( row.getLong( 0 ) );
+						labels.add( row.getString( 1 ) );
+						assertThat( row.getDouble( 2 ) ).isEqualTo( row.getLong( 0 ) + 0.5 );
+					} );
+					assertThat( ids ).containsExactly( 1L, 2L, 3L );
+					assertThat( labels ).containsExactly( "first", "second", "third" );
+					assertThat( result.hasNext() ).isFalse();
+				} )
+		);
+	}
+
+	@Entity(name = "Reading")
+	@Table(name = "ResultRowReading")
+	public static class Reading {
+		@Id
+		private Long id;
+		private String label;
+		private Double amount;
+
+		public Reading() {
+		}
+
+		public Reading(Long id, String label, Double amount) {
+			this.id = id;
+			this.label = label;
+			this.amount = amount;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getLabel() {
+			return label;
+		}
+
+		public void setLabel(String label) {
+			this.label = label;
+		}
+
+		public Double getAmount() {
+			return amount;
+		}
+
+		public void setAmount(Double amount) {
+			this.amount = amount;
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor.ColumnLabels;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.dbType;
+
+/**
+ * Tests the lookup of columns by label in {@link ResultSetAdaptor}
+ */
+public class ResultSetAdaptorTest extends BaseReactiveTest {
+
+	private static final String SQL = "select id, label as itemLabel from ResultSetAdaptorItem order by id";
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Item.class );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getSessionFactory().withTransaction( (s, tx) -> s.persist(
+				new Item( 1, "first" ),
+				new Item( 2, "second" )
+		) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Item" ) );
+	}
+
+	@Test
+	public void testLookupIgnoresCase(TestContext context) {
+		final List<String> labels = new ArrayList<>();
+		test( context, connection()
+				.thenCompose( connection -> connection.selectJdbc( SQL, new Object[0] ) )
+				.thenAccept( resultSet -> {
+					try {
+						assertThat( resultSet.findColumn( "ID" ) ).isEqualTo( 1 );
+						assertThat( resultSet.findColumn( "itemlabel" ) ).isEqualTo( 2 );
+						assertThat( resultSet.findColumn( "ITEMLABEL" ) ).isEqualTo( 2 );
+						assertThat( resultSet.findColumn( "missing" ) ).isEqualTo( 0 );
+						while ( resultSet.next() ) {
+							assertThat( resultSet.getString( "ItemLabel" ) ).isEqualTo( resultSet.getString( 2 ) );
+							labels.add( resultSet.getString( "itemLabel" ) );
+						}
+					}
+					catch (SQLException e) {
+						throw new RuntimeException( e );
+					}
+					assertThat( labels ).containsExactly( "first", "second" );
+				} )
+		);
+	}
+
+	@Test
+	public void testColumnLabelsAreReused(TestContext context) {
+		test( context, connection()
+				.thenCompose( connection -> connection.selectJdbc( SQL, new Object[0] )
+						.thenCompose( first -> connection.selectJdbc( SQL, new Object[0] )
+								.thenAccept( second -> {
+									ColumnLabels labels = ResultSetAdaptor.reuseColumnLabels( first, null );
+									assertThat( labels.indexOf( "id" ) ).isEqualTo( 0 );
+									ColumnLabels reused = ResultSetAdaptor.reuseColumnLabels( second, labels );
+									assertThat( reused.indexOf( "id" ) ).isEqualTo( 0 );
+									if ( dbType() == POSTGRESQL ) {
+										// the row description of the cached prepared statement is reused
+										assertThat( reused ).isSameAs( labels );
+									}
+								} ) ) )
+		);
+	}
+
+	@Test
+	public void testNativeQueryByAlias(TestContext context) {
+		test( context, openSession()
+				.thenCompose( s -> s.createNativeQuery( SQL ).getResultList() )
+				.thenAccept( rows -> assertThat( rows ).hasSize( 2 ) )
+		);
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "ResultSetAdaptorItem")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String label;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String label) {
+			this.id = id;
+			this.label = label;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getLabel() {
+			return label;
+		}
+
+		public void setLabel(String label) {
+			this.label = label;
+		}
+	}
+}
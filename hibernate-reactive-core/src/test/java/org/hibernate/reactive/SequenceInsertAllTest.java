@@ -0,0 +1,97 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests inserting many entities with ids from a sequence which is
+ * incremented by one, so that the ids are obtained all at once.
+ */
+public class SequenceInsertAllTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Reading.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Reading" ) );
+	}
+
+	@Test
+	public void testInsertAll(TestContext context) {
+		final Reading[] readings = new Reading[20];
+		for ( int i = 0; i < readings.length; i++ ) {
+			readings[i] = new Reading( i * 1.5 );
+		}
+		test( context, getSessionFactory()
+				.withStatelessTransaction( s -> s.insert( 10, readings ) )
+				.thenAccept( v -> {
+					final Set<Long> ids = new HashSet<>();
+					for ( Reading reading : readings ) {
+						assertThat( reading.getId() ).isNotNull();
+						ids.add( reading.getId() );
+					}
+					assertThat( ids ).hasSize( readings.length );
+				} )
+				.thenCompose( v -> getSessionFactory().withStatelessSession(
+						s -> s.createQuery( "select count(*) from Reading", Long.class ).getSingleResult() ) )
+				.thenAccept( count -> assertThat( count ).isEqualTo( readings.length ) )
+		);
+	}
+
+	@Entity(name = "Reading")
+	@Table(name = "InsertAllReading")
+	@SequenceGenerator(name = "reading_seq", sequenceName = "insert_all_reading_seq", allocationSize = 1)
+	public static class Reading {
+		@Id
+		@GeneratedValue(generator = "reading_seq")
+		private Long id;
+		private Double amount;
+
+		public Reading() {
+		}
+
+		public Reading(Double amount) {
+			this.amount = amount;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public Double getAmount() {
+			return amount;
+		}
+
+		public void setAmount(Double amount) {
+			this.amount = amount;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.vertx.ext.unit.TestContext;
+import org.reactivestreams.FlowAdapters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests inserting a stream of entities using a stateless session
+ */
+public class StatelessStreamInsertTest extends BaseReactiveTest {
+
+	private static final int ROWS = 25;
+	private static final int BATCH_SIZE = 10;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Measurement.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Measurement" ) );
+	}
+
+	@Test
+	public void testMutinyInsertStream(TestContext context) {
+		final Multi<Measurement> measurements = Multi.createFrom().range( 0, ROWS )
+				.map( i -> new Measurement( i, i * 0.5 ) );
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( s -> s.insertAll( BATCH_SIZE, measurements ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession(
+						s -> s.createQuery( "select count(*) from Measurement", Long.class ).getSingleResult() ) )
+				.invoke( count -> assertThat( count ).isEqualTo( ROWS ) )
+		);
+	}
+
+	@Test
+	public void testStageInsertStream(TestContext context) {
+		final Multi<Measurement> measurements = Multi.createFrom().range( 0, ROWS )
+				.map( i -> new Measurement( i, i * 0.5 ) );
+		test( context, getSessionFactory()
+				.withStatelessTransaction( s -> s.insert( BATCH_SIZE, FlowAdapters.toFlowPublisher( measurements ) ) )
+				.thenCompose( v -> getSessionFactory().withStatelessSession(
+						s -> s.createQuery( "select count(*) from Measurement", Long.class ).getSingleResult() ) )
+				.thenAccept( count -> assertThat( count ).isEqualTo( ROWS ) )
+		);
+	}
+
+	@Entity(name = "Measurement")
+	@Table(name = "StreamMeasurement")
+	public static class Measurement {
+		@Id
+		private Integer id;
+		private Double reading;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, Double reading) {
+			this.id = id;
+			this.reading = reading;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public Double getReading() {
+			return reading;
+		}
+
+		public void setReading(Double reading) {
+			this.reading = reading;
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.adaptor.impl;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the collection of parameter bindings by {@link PreparedStatementAdaptor}.
+ */
+public class PreparedStatementAdaptorTest {
+
+	@Test
+	public void testExactParameterCountIsNotCopied() {
+		final Object[][] preallocated = new Object[1][];
+		final Object[] params = PreparedStatementAdaptor.bind( 3, statement -> {
+			preallocated[0] = ( (PreparedStatementAdaptor) statement ).params;
+			statement.setString( 1, "one" );
+			statement.setLong( 2, 2L );
+			statement.setBoolean( 3, true );
+		} );
+		assertThat( params ).isSameAs( preallocated[0] );
+		assertThat( params ).containsExactly( "one", 2L, true );
+	}
+
+	@Test
+	public void testMoreParametersThanExpected() {
+		final Object[] params = PreparedStatementAdaptor.bind( 1, statement -> {
+			statement.setString( 1, "one" );
+			statement.setString( 2, "two" );
+			statement.setString( 3, "three" );
+		} );
+		assertThat( params ).containsExactly( "one", "two", "three" );
+	}
+
+	@Test
+	public void testFewerParametersThanExpected() {
+		final Object[] params = PreparedStatementAdaptor.bind( 3, statement -> statement.setString( 1, "one" ) );
+		assertThat( params ).containsExactly( "one" );
+	}
+
+	@Test
+	public void testNoParameterCount() {
+		final Object[] params = PreparedStatementAdaptor.bind( statement -> {
+			statement.setInt( 1, 1 );
+			statement.setInt( 2, 2 );
+		} );
+		assertThat( params ).containsExactly( 1, 2 );
+	}
+}
@@ -0,0 +1,63 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.mutiny.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+import org.hibernate.reactive.BaseReactiveTest;
+
+import org.junit.Test;
+
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the {@link io.smallrye.mutiny.Uni} obtained from
+ * {@link MutinySessionFactoryImpl#uni(java.util.function.Supplier)}.
+ */
+public class MutinySessionFactoryImplTest extends BaseReactiveTest {
+
+	private static MutinySessionFactoryImpl factory() {
+		return (MutinySessionFactoryImpl) getMutinySessionFactory();
+	}
+
+	@Test
+	public void testCancellationCancelsStage(TestContext context) {
+		final CompletableFuture<Void> waiting = new CompletableFuture<>();
+		final CompletableFuture<Object> stage = new CompletableFuture<Object>() {
+			@Override
+			public CompletableFuture<Object> whenComplete(BiConsumer<? super Object, ? super Throwable> action) {
+				final CompletableFuture<Object> dependent = super.whenComplete( action );
+				// the Uni is now waiting for the stage to complete
+				waiting.complete( null );
+				return dependent;
+			}
+		};
+		final Cancellable subscription = factory()
+				.uni( () -> stage )
+				.subscribe().with( item -> context.fail( "the stage never completes" ) );
+		test( context, waiting.thenAccept( v -> {
+			assertThat( stage ).isNotDone();
+			subscription.cancel();
+			assertThat( stage ).isCancelled();
+		} ) );
+	}
+
+	@Test
+	public void testCompletionDoesNotCancelStage(TestContext context) {
+		final CompletableFuture<Object> stage = CompletableFuture.completedFuture( "done" );
+		test( context, factory()
+				.uni( () -> stage )
+				.invoke( result -> {
+					assertThat( result ).isEqualTo( "done" );
+					assertThat( stage ).isNotCancelled();
+				} )
+		);
+	}
+}